@@ -0,0 +1,15 @@
+@echo off
+set SRC=src\main\java
+set BENCH_SRC=src\bench\java
+set OUT=out-bench
+set MAIN_CLASS=gr.marou.password_generator.bench.BenchmarkRunner
+if defined BENCH_MAIN set MAIN_CLASS=%BENCH_MAIN%
+
+if not exist %OUT% mkdir %OUT%
+
+:: Compile application and benchmark sources
+dir /S /B %SRC%\*.java %BENCH_SRC%\*.java > bench-sources.txt
+javac -d %OUT% @bench-sources.txt
+
+:: Run the benchmarks, forwarding any options
+java -cp %OUT% %MAIN_CLASS% %*
@@ -0,0 +1,17 @@
+#!/bin/bash
+
+SRC=src/main/java
+BENCH_SRC=src/bench/java
+OUT=out-bench
+MAIN_CLASS=${BENCH_MAIN:-gr.marou.password_generator.bench.BenchmarkRunner}
+
+# Create necessary directories
+mkdir -p "$OUT"
+
+# Compile application and benchmark sources
+echo "Compiling benchmarks..."
+find "$SRC" "$BENCH_SRC" -name "*.java" > bench-sources.txt
+javac -d "$OUT" @bench-sources.txt || exit 1
+
+# Run the benchmarks (or BENCH_MAIN), forwarding any options (e.g. --filter generatePassword --threads 4)
+java -cp "$OUT" "$MAIN_CLASS" "$@"
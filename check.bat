@@ -0,0 +1,15 @@
+@echo off
+set SRC=src\main\java
+set CHECK_SRC=src\check\java
+set OUT=out-check
+set MAIN_CLASS=gr.marou.password_generator.check.CheckRunner
+
+if not exist %OUT% mkdir %OUT%
+
+:: Compile application and check sources
+dir /S /B %SRC%\*.java %CHECK_SRC%\*.java > check-sources.txt
+javac -d %OUT% @check-sources.txt
+
+:: Run the checks, forwarding any options
+java -cp %OUT% %MAIN_CLASS% %*
+exit /b %ERRORLEVEL%
@@ -0,0 +1,17 @@
+#!/bin/bash
+
+SRC=src/main/java
+CHECK_SRC=src/check/java
+OUT=out-check
+MAIN_CLASS=gr.marou.password_generator.check.CheckRunner
+
+# Create necessary directories
+mkdir -p "$OUT"
+
+# Compile application and check sources
+echo "Compiling checks..."
+find "$SRC" "$CHECK_SRC" -name "*.java" > check-sources.txt
+javac -d "$OUT" @check-sources.txt || exit 1
+
+# Run the checks, forwarding any options (e.g. --filter distribution); exits non-zero on failure
+java -cp "$OUT" "$MAIN_CLASS" "$@"
@@ -0,0 +1,37 @@
+package gr.marou.password_generator.bench;
+
+import java.util.function.Supplier;
+
+/**
+ * A named benchmark whose operation is created once per measuring thread.
+ *
+ * @param name      Benchmark name shown in the report
+ * @param operation Factory creating the per-thread operation, so state such as buffers is never shared
+ */
+public record BenchmarkCase(String name, Supplier<Operation> operation) {
+
+    /**
+     * A single benchmarked call.
+     */
+    @FunctionalInterface
+    public interface Operation {
+
+        /**
+         * Runs the benchmarked call once.
+         *
+         * @return the call result, consumed by the runner so it cannot be optimized away
+         */
+        Object invoke();
+    }
+
+    /**
+     * Creates a benchmark whose operation holds no per-thread state.
+     *
+     * @param name      benchmark name
+     * @param operation shared operation
+     * @return benchmark case
+     */
+    public static BenchmarkCase of(String name, Operation operation) {
+        return new BenchmarkCase(name, () -> operation);
+    }
+}
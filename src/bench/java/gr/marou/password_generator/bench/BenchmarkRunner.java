@@ -0,0 +1,189 @@
+package gr.marou.password_generator.bench;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Self-contained micro-benchmark runner.
+ * <p>
+ * Runs every registered {@link BenchmarkCase} single-threaded and with one thread per processor,
+ * after warm-up iterations, and reports throughput, average time and allocation per operation
+ * (read from the per-thread allocation counters of the JVM, like the JMH gc profiler).
+ * <p>
+ * Usage: {@code bench.sh [--filter text] [--threads n] [--warmup n] [--iterations n] [--time-ms n]}
+ */
+public final class BenchmarkRunner {
+
+    /** Thread MXBean exposing per-thread allocated bytes. */
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /** Sink for operation results, so the JIT cannot drop the benchmarked calls. */
+    private static final AtomicLong SINK = new AtomicLong();
+
+    /** Only benchmarks whose name contains this text are run. */
+    private String filter = "";
+    /** Thread count of the multi-threaded configuration. */
+    private int threads = Runtime.getRuntime().availableProcessors();
+    /** Warm-up iterations per configuration. */
+    private int warmupIterations = 3;
+    /** Measured iterations per configuration. */
+    private int iterations = 5;
+    /** Duration of one iteration in milliseconds. */
+    private long iterationMillis = 1000;
+
+    /** Private constructor; use {@link #main(String[])}. */
+    private BenchmarkRunner() {}
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args command-line options
+     * @throws InterruptedException if interrupted while waiting for worker threads
+     */
+    public static void main(String[] args) throws InterruptedException {
+        BenchmarkRunner runner = new BenchmarkRunner();
+        runner.parse(args);
+        runner.run(registeredCases());
+    }
+
+    /**
+     * Gets every registered benchmark.
+     *
+     * @return benchmark cases
+     */
+    private static List<BenchmarkCase> registeredCases() {
+        List<BenchmarkCase> cases = new ArrayList<>();
+        cases.addAll(GenerationBenchmarks.cases());
+        cases.addAll(StrengthBenchmarks.cases());
+        cases.addAll(StreamBenchmarks.cases());
+        return cases;
+    }
+
+    /**
+     * Parses command-line options.
+     *
+     * @param args command-line options
+     */
+    private void parse(String[] args) {
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--filter" -> filter = args[i + 1];
+                case "--threads" -> threads = Integer.parseInt(args[i + 1]);
+                case "--warmup" -> warmupIterations = Integer.parseInt(args[i + 1]);
+                case "--iterations" -> iterations = Integer.parseInt(args[i + 1]);
+                case "--time-ms" -> iterationMillis = Long.parseLong(args[i + 1]);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+    }
+
+    /**
+     * Runs the matching benchmarks and prints one report line per configuration.
+     *
+     * @param cases benchmark cases
+     * @throws InterruptedException if interrupted while waiting for worker threads
+     */
+    private void run(List<BenchmarkCase> cases) throws InterruptedException {
+        System.out.printf("%-40s %7s %16s %14s %12s %14s%n",
+                "Benchmark", "Threads", "thrpt (ops/s)", "avgt (ns/op)", "alloc (B/op)", "alloc (MB/s)");
+        for (BenchmarkCase benchmark : cases) {
+            if (!benchmark.name().contains(filter)) continue;
+            report(benchmark, 1);
+            if (threads > 1) {
+                report(benchmark, threads);
+            }
+        }
+    }
+
+    /**
+     * Warms up, measures and prints one configuration.
+     *
+     * @param benchmark   benchmark case
+     * @param threadCount number of measuring threads
+     * @throws InterruptedException if interrupted while waiting for worker threads
+     */
+    private void report(BenchmarkCase benchmark, int threadCount) throws InterruptedException {
+        for (int i = 0; i < warmupIterations; i++) {
+            measure(benchmark, threadCount);
+        }
+        long ops = 0;
+        long bytes = 0;
+        long nanos = 0;
+        for (int i = 0; i < iterations; i++) {
+            long[] result = measure(benchmark, threadCount);
+            ops += result[0];
+            bytes += result[1];
+            nanos += result[2];
+        }
+        double seconds = nanos / 1e9;
+        System.out.printf("%-40s %7d %16.1f %14.1f %12.1f %14.1f%n",
+                benchmark.name(), threadCount,
+                ops / seconds,
+                (double) nanos * threadCount / ops,
+                (double) bytes / ops,
+                bytes / seconds / (1024 * 1024));
+    }
+
+    /**
+     * Runs one timed iteration on the given number of threads.
+     *
+     * @param benchmark   benchmark case
+     * @param threadCount number of measuring threads
+     * @return operations, allocated bytes and elapsed nanoseconds
+     * @throws InterruptedException if interrupted while waiting for worker threads
+     */
+    private long[] measure(BenchmarkCase benchmark, int threadCount) throws InterruptedException {
+        AtomicLong ops = new AtomicLong();
+        AtomicLong bytes = new AtomicLong();
+        CountDownLatch ready = new CountDownLatch(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>(threadCount);
+        long[] deadline = new long[1];
+
+        for (int t = 0; t < threadCount; t++) {
+            Thread worker = new Thread(() -> {
+                BenchmarkCase.Operation operation = benchmark.operation().get();
+                long sink = 0;
+                long count = 0;
+                ready.countDown();
+                awaitQuietly(start);
+                long allocatedBefore = THREADS.getCurrentThreadAllocatedBytes();
+                while (System.nanoTime() < deadline[0]) {
+                    sink += System.identityHashCode(operation.invoke());
+                    count++;
+                }
+                bytes.addAndGet(THREADS.getCurrentThreadAllocatedBytes() - allocatedBefore);
+                ops.addAndGet(count);
+                SINK.addAndGet(sink);
+            });
+            workers.add(worker);
+            worker.start();
+        }
+
+        ready.await();
+        long begin = System.nanoTime();
+        deadline[0] = begin + iterationMillis * 1_000_000;
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return new long[]{ops.get(), bytes.get(), System.nanoTime() - begin};
+    }
+
+    /**
+     * Waits on a latch, restoring the interrupt flag if interrupted.
+     *
+     * @param latch latch to await
+     */
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
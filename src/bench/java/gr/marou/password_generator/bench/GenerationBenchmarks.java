@@ -0,0 +1,132 @@
+package gr.marou.password_generator.bench;
+
+import gr.marou.password_generator.fixture.FixturePasswordGenerator;
+import gr.marou.password_generator.metrics.GeneratorMetrics;
+import gr.marou.password_generator.model.enums.TokenEncoding;
+import gr.marou.password_generator.policy.PolicyCache;
+import gr.marou.password_generator.policy.PolicyDescriptor;
+import gr.marou.password_generator.random.EntropyBuffer;
+import gr.marou.password_generator.random.SecureRandomSource;
+import gr.marou.password_generator.service.LongSecretGenerator;
+import gr.marou.password_generator.service.PasswordService;
+import gr.marou.password_generator.service.PasswordServiceImpl;
+import gr.marou.password_generator.service.PooledPasswordService;
+import gr.marou.password_generator.service.TokenGenerator;
+import gr.marou.password_generator.util.PasswordOptionsUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.List;
+
+/**
+ * Benchmarks for password generation and its building blocks.
+ */
+public final class GenerationBenchmarks {
+
+    /** Private constructor to prevent instantiation. */
+    private GenerationBenchmarks() {}
+
+    /**
+     * Gets the generation benchmarks.
+     *
+     * @return benchmark cases
+     */
+    public static List<BenchmarkCase> cases() {
+        PasswordService service = new PasswordServiceImpl();
+        return List.of(
+                BenchmarkCase.of("generatePassword(8)", () -> service.generatePassword(8)),
+                BenchmarkCase.of("generatePassword(10)", () -> service.generatePassword(10)),
+                BenchmarkCase.of("generatePassword(40)", () -> service.generatePassword(40)),
+                new BenchmarkCase("generateInto(char[], 10)", () -> {
+                    char[] destination = new char[10];
+                    return () -> {
+                        service.generateInto(destination, 0, 10);
+                        return destination;
+                    };
+                }),
+                new BenchmarkCase("generateInto(direct CharBuffer, 10)", () -> {
+                    CharBuffer destination = ByteBuffer.allocateDirect(20).asCharBuffer();
+                    return () -> {
+                        service.generateInto(destination.clear(), 10);
+                        return destination;
+                    };
+                }),
+                new BenchmarkCase("generateInto(direct ByteBuffer, 10)", () -> {
+                    ByteBuffer destination = ByteBuffer.allocateDirect(40);
+                    return () -> service.generateInto(destination.clear(), 10);
+                }),
+                new BenchmarkCase("generatePassword(10) metrics on", () -> {
+                    GeneratorMetrics.get().setEnabled(true);
+                    return () -> service.generatePassword(10);
+                }),
+                new BenchmarkCase("generatePassword(10) metrics off", () -> {
+                    GeneratorMetrics.get().setEnabled(false);
+                    return () -> service.generatePassword(10);
+                }),
+                new BenchmarkCase("pooled generatePassword(10)", () -> {
+                    PooledPasswordService pooled = new PooledPasswordService(new PasswordServiceImpl());
+                    return () -> pooled.generatePassword(10);
+                }),
+                new BenchmarkCase("fixture password(index, 10)", () -> {
+                    FixturePasswordGenerator fixture = new FixturePasswordGenerator(42);
+                    long[] index = {0};
+                    return () -> fixture.password(index[0]++, 10);
+                }),
+                BenchmarkCase.of("generatePassword(20) ~128 bits", () -> service.generatePassword(20)),
+                token(TokenEncoding.HEX),
+                token(TokenEncoding.BASE32),
+                token(TokenEncoding.BASE64URL),
+                longSecret(64),
+                longSecret(1024),
+                longSecret(4096),
+                BenchmarkCase.of("createDTOFromEnum", PasswordOptionsUtils::createDTOFromEnum),
+                new BenchmarkCase("policyCache.get hit", () -> {
+                    PolicyCache cache = new PolicyCache();
+                    PolicyDescriptor descriptor = PolicyDescriptor.defaults().canonical();
+                    return () -> cache.get(descriptor);
+                }),
+                new BenchmarkCase("random.nextInt(86) unbuffered", () -> {
+                    SecureRandomSource source = new SecureRandomSource();
+                    return () -> source.nextInt(86);
+                }),
+                new BenchmarkCase("random.nextInt(86) buffered", () -> {
+                    EntropyBuffer source = new EntropyBuffer();
+                    return () -> source.nextInt(86);
+                })
+        );
+    }
+
+    /**
+     * Benchmarks long-secret generation into a reused array.
+     *
+     * @param length secret length
+     * @return benchmark case
+     */
+    private static BenchmarkCase longSecret(int length) {
+        return new BenchmarkCase("longSecret.generateInto(" + length + ")", () -> {
+            LongSecretGenerator generator = new LongSecretGenerator();
+            char[] destination = new char[length];
+            return () -> {
+                generator.generateInto(destination, 0, length);
+                return destination;
+            };
+        });
+    }
+
+    /**
+     * Benchmarks 128-bit token generation with a checksum into a reused direct buffer.
+     *
+     * @param encoding text encoding
+     * @return benchmark case
+     */
+    private static BenchmarkCase token(TokenEncoding encoding) {
+        return new BenchmarkCase("token(16 bytes, " + encoding.getValue() + ", crc32)", () -> {
+            TokenGenerator generator = new TokenGenerator(encoding, 16, "ptk_", true);
+            ByteBuffer destination = ByteBuffer.allocateDirect(generator.tokenLength());
+            return () -> {
+                generator.generateInto(destination.clear());
+                return destination;
+            };
+        });
+    }
+}
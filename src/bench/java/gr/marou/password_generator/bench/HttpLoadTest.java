@@ -0,0 +1,192 @@
+package gr.marou.password_generator.bench;
+
+import gr.marou.password_generator.server.PasswordHttpServer;
+import gr.marou.password_generator.service.PasswordServiceImpl;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load driver for the embedded generation server.
+ * <p>
+ * A fixed number of virtual-thread clients send requests back to back and record the latency of
+ * each one; the report gives requests per second and latency percentiles. Without {@code --url}
+ * an in-process server is started on a free localhost port, so the driver runs on its own.
+ * <p>
+ * Usage: {@code BENCH_MAIN=gr.marou.password_generator.bench.HttpLoadTest bench.sh
+ * [--url url] [--requests n] [--concurrency n] [--warmup n]}
+ */
+public final class HttpLoadTest {
+
+    /** Path requested when no URL is given. */
+    private static final String DEFAULT_PATH = "/generate?length=12";
+
+    /** Target URL, or null to start an in-process server. */
+    private String url;
+    /** Measured requests. */
+    private int requests = 20_000;
+    /** Concurrent clients. */
+    private int concurrency = 64;
+    /** Unmeasured warm-up requests. */
+    private int warmup = 2_000;
+
+    /** Private constructor; use {@link #main(String[])}. */
+    private HttpLoadTest() {}
+
+    /**
+     * Runs the load test.
+     *
+     * @param args command-line options
+     * @throws Exception if the server cannot be started or the clients fail
+     */
+    public static void main(String[] args) throws Exception {
+        HttpLoadTest loadTest = new HttpLoadTest();
+        loadTest.parse(args);
+        loadTest.run();
+    }
+
+    /**
+     * Parses command-line options.
+     *
+     * @param args command-line options
+     */
+    private void parse(String[] args) {
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--url" -> url = args[i + 1];
+                case "--requests" -> requests = Integer.parseInt(args[i + 1]);
+                case "--concurrency" -> concurrency = Integer.parseInt(args[i + 1]);
+                case "--warmup" -> warmup = Integer.parseInt(args[i + 1]);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+    }
+
+    /**
+     * Warms up, measures and prints the report.
+     *
+     * @throws Exception if the server cannot be started or the clients fail
+     */
+    private void run() throws Exception {
+        PasswordHttpServer server = null;
+        URI target;
+        if (url == null) {
+            server = PasswordHttpServer.start(new PasswordServiceImpl(),
+                    new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            target = URI.create("http://localhost:" + server.port() + DEFAULT_PATH);
+        } else {
+            target = URI.create(url);
+        }
+
+        try (HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build()) {
+            HttpRequest request = HttpRequest.newBuilder(target).GET().build();
+            drive(client, request, warmup);
+            long[] latencies = new long[requests];
+            AtomicInteger errors = new AtomicInteger();
+            long elapsed = drive(client, request, requests, latencies, errors);
+            report(target, latencies, elapsed, errors.get());
+        } finally {
+            if (server != null) {
+                server.close();
+            }
+        }
+    }
+
+    /**
+     * Sends unmeasured requests.
+     *
+     * @param client  HTTP client
+     * @param request request to send
+     * @param count   number of requests
+     * @throws Exception if the clients fail
+     */
+    private void drive(HttpClient client, HttpRequest request, int count) throws Exception {
+        drive(client, request, count, new long[count], new AtomicInteger());
+    }
+
+    /**
+     * Sends requests from the concurrent clients and records the latency of each.
+     *
+     * @param client    HTTP client
+     * @param request   request to send
+     * @param count     number of requests
+     * @param latencies receives the latency of each request in nanoseconds
+     * @param errors    incremented for every failed or non-200 request
+     * @return elapsed wall-clock nanoseconds
+     * @throws Exception if the clients fail
+     */
+    private long drive(HttpClient client, HttpRequest request, int count,
+                       long[] latencies, AtomicInteger errors) throws Exception {
+        AtomicLong next = new AtomicLong();
+        long start = System.nanoTime();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(concurrency);
+            for (int c = 0; c < concurrency; c++) {
+                futures.add(clients.submit(() -> {
+                    for (long i = next.getAndIncrement(); i < count; i = next.getAndIncrement()) {
+                        long sent = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (IOException e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies[(int) i] = System.nanoTime() - sent;
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Prints requests per second and latency percentiles.
+     *
+     * @param target    requested URL
+     * @param latencies latency of each request in nanoseconds
+     * @param elapsed   elapsed wall-clock nanoseconds
+     * @param errors    failed or non-200 requests
+     */
+    private void report(URI target, long[] latencies, long elapsed, int errors) {
+        Arrays.sort(latencies);
+        System.out.printf("Target: %s, %d requests, %d concurrent clients, %d errors%n",
+                target, latencies.length, concurrency, errors);
+        System.out.printf("Throughput: %.1f requests/s%n", latencies.length / (elapsed / 1e9));
+        System.out.printf("Latency (us): p50 %.1f  p90 %.1f  p99 %.1f  p99.9 %.1f  max %.1f%n",
+                percentile(latencies, 0.50), percentile(latencies, 0.90), percentile(latencies, 0.99),
+                percentile(latencies, 0.999), latencies[latencies.length - 1] / 1e3);
+    }
+
+    /**
+     * Gets a percentile of sorted latencies, in microseconds.
+     *
+     * @param sorted   sorted latencies in nanoseconds
+     * @param fraction percentile as a fraction
+     * @return latency in microseconds
+     */
+    private static double percentile(long[] sorted, double fraction) {
+        int index = (int) Math.ceil(fraction * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e3;
+    }
+}
@@ -0,0 +1,114 @@
+package gr.marou.password_generator.bench;
+
+import gr.marou.password_generator.service.PasswordPublisher;
+import gr.marou.password_generator.service.PasswordService;
+import gr.marou.password_generator.service.PasswordServiceImpl;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+
+/**
+ * Benchmarks comparing the password publisher with plain generation loops, per 1,000 passwords.
+ */
+public final class StreamBenchmarks {
+
+    /** Passwords consumed per benchmarked call. */
+    private static final int PASSWORDS = 1000;
+    /** Demand signalled at a time by the bounded subscriber. */
+    private static final int REQUEST_SIZE = 64;
+
+    /** Private constructor to prevent instantiation. */
+    private StreamBenchmarks() {}
+
+    /**
+     * Gets the stream benchmarks.
+     *
+     * @return benchmark cases
+     */
+    public static List<BenchmarkCase> cases() {
+        PasswordService service = new PasswordServiceImpl();
+        return List.of(
+                BenchmarkCase.of("loop 1000 x generatePassword(10)", () -> {
+                    int total = 0;
+                    for (int i = 0; i < PASSWORDS; i++) {
+                        total += service.generatePassword(10).length();
+                    }
+                    return total;
+                }),
+                BenchmarkCase.of("publisher 1000 x (10) request(64)",
+                        () -> consume(PasswordPublisher.of(service, 10, PASSWORDS), REQUEST_SIZE)),
+                BenchmarkCase.of("publisher 1000 x (10) unbounded",
+                        () -> consume(PasswordPublisher.of(service, 10, PASSWORDS), Long.MAX_VALUE))
+        );
+    }
+
+    /**
+     * Subscribes to a publisher and waits until it completes.
+     *
+     * @param publisher   publisher of a finite stream
+     * @param requestSize demand signalled at a time
+     * @return total length of the received passwords
+     */
+    private static int consume(Flow.Publisher<String> publisher, long requestSize) {
+        CountingSubscriber subscriber = new CountingSubscriber(requestSize);
+        publisher.subscribe(subscriber);
+        try {
+            subscriber.done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return subscriber.total;
+    }
+
+    /**
+     * Subscriber summing the password lengths, signalling demand in fixed-size steps.
+     */
+    private static final class CountingSubscriber implements Flow.Subscriber<String> {
+
+        /** Demand signalled at a time. */
+        private final long requestSize;
+        /** Released on completion or error. */
+        private final CountDownLatch done = new CountDownLatch(1);
+        /** Subscription, set before the first password arrives. */
+        private Flow.Subscription subscription;
+        /** Passwords received since the last request. */
+        private long received;
+        /** Sum of the password lengths. */
+        private int total;
+
+        /**
+         * Creates a subscriber.
+         *
+         * @param requestSize demand signalled at a time
+         */
+        private CountingSubscriber(long requestSize) {
+            this.requestSize = requestSize;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(requestSize);
+        }
+
+        @Override
+        public void onNext(String password) {
+            total += password.length();
+            if (++received == requestSize) {
+                received = 0;
+                subscription.request(requestSize);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            done.countDown();
+        }
+    }
+}
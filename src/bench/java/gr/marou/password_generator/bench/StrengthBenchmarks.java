@@ -0,0 +1,70 @@
+package gr.marou.password_generator.bench;
+
+import gr.marou.password_generator.metrics.GeneratorMetrics;
+import gr.marou.password_generator.service.PasswordServiceImpl;
+import gr.marou.password_generator.util.IncrementalStrengthMeter;
+import gr.marou.password_generator.util.PasswordStrengthUtils;
+
+import java.util.List;
+
+/**
+ * Benchmarks for password strength evaluation.
+ */
+public final class StrengthBenchmarks {
+
+    /** Number of distinct passwords cycled through, so results are not constant-folded. */
+    private static final int SAMPLE_SIZE = 1024;
+
+    /** Private constructor to prevent instantiation. */
+    private StrengthBenchmarks() {}
+
+    /**
+     * Gets the strength evaluation benchmarks.
+     *
+     * @return benchmark cases
+     */
+    public static List<BenchmarkCase> cases() {
+        String[] samples = new PasswordServiceImpl().generatePasswords(16, SAMPLE_SIZE).passwords().toArray(String[]::new);
+        char[][] charSamples = new char[SAMPLE_SIZE][];
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            charSamples[i] = samples[i].toCharArray();
+        }
+        return List.of(
+                new BenchmarkCase("evaluate(String)", () -> {
+                    int[] next = {0};
+                    return () -> PasswordStrengthUtils.evaluate(samples[next[0]++ & (SAMPLE_SIZE - 1)]);
+                }),
+                new BenchmarkCase("evaluate(char[])", () -> {
+                    int[] next = {0};
+                    return () -> PasswordStrengthUtils.evaluate(charSamples[next[0]++ & (SAMPLE_SIZE - 1)]);
+                }),
+                new BenchmarkCase("evaluate(char[]) metrics on", () -> {
+                    GeneratorMetrics.get().setEnabled(true);
+                    int[] next = {0};
+                    return () -> PasswordStrengthUtils.evaluate(charSamples[next[0]++ & (SAMPLE_SIZE - 1)]);
+                }),
+                new BenchmarkCase("evaluate(char[]) metrics off", () -> {
+                    GeneratorMetrics.get().setEnabled(false);
+                    int[] next = {0};
+                    return () -> PasswordStrengthUtils.evaluate(charSamples[next[0]++ & (SAMPLE_SIZE - 1)]);
+                }),
+                new BenchmarkCase("keystroke: evaluate(char[]) of prefix", () -> {
+                    int[] keystroke = {0};
+                    return () -> {
+                        int k = keystroke[0]++;
+                        char[] password = charSamples[(k >>> 4) & (SAMPLE_SIZE - 1)];
+                        return PasswordStrengthUtils.evaluate(password, 0, (k & 15) + 1);
+                    };
+                }),
+                new BenchmarkCase("keystroke: incremental meter", () -> {
+                    IncrementalStrengthMeter meter = new IncrementalStrengthMeter();
+                    int[] keystroke = {0};
+                    return () -> {
+                        int k = keystroke[0]++;
+                        if ((k & 15) == 0) meter.clear();
+                        return meter.append(charSamples[(k >>> 4) & (SAMPLE_SIZE - 1)][k & 15]).strength();
+                    };
+                })
+        );
+    }
+}
@@ -0,0 +1,39 @@
+package gr.marou.password_generator.check;
+
+/**
+ * A named correctness check: a statistical, concurrency or differential property of the
+ * generator that a single example cannot show.
+ *
+ * @param name  Check name shown in the report
+ * @param check The verification, throwing on failure
+ */
+public record CheckCase(String name, Check check) {
+
+    /**
+     * A single verification.
+     */
+    @FunctionalInterface
+    public interface Check {
+
+        /**
+         * Runs the verification.
+         *
+         * @return a one-line summary of what was measured, shown when the check passes
+         * @throws Exception if the check fails or cannot run
+         */
+        String verify() throws Exception;
+    }
+
+    /**
+     * Fails the running check unless a condition holds.
+     *
+     * @param condition condition that must hold
+     * @param format    failure message format
+     * @param args      failure message arguments
+     */
+    public static void require(boolean condition, String format, Object... args) {
+        if (!condition) {
+            throw new AssertionError(String.format(format, args));
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package gr.marou.password_generator.check;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Self-contained runner for the correctness checks.
+ * <p>
+ * Runs every registered {@link CheckCase} in turn, prints one line per check and exits with a
+ * non-zero status if any of them failed, so it can gate a build script.
+ * <p>
+ * Usage: {@code check.sh [--filter text]}
+ */
+public final class CheckRunner {
+
+    /** Only checks whose name contains this text are run. */
+    private String filter = "";
+
+    /** Private constructor; use {@link #main(String[])}. */
+    private CheckRunner() {}
+
+    /**
+     * Runs the checks.
+     *
+     * @param args command-line options
+     */
+    public static void main(String[] args) {
+        CheckRunner runner = new CheckRunner();
+        runner.parse(args);
+        if (!runner.run(registeredCases())) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Gets every registered check.
+     *
+     * @return check cases
+     */
+    private static List<CheckCase> registeredCases() {
+        List<CheckCase> cases = new ArrayList<>();
+        cases.addAll(DistributionChecks.cases());
+        cases.addAll(ConcurrencyChecks.cases());
+        cases.addAll(StrengthChecks.cases());
+        cases.addAll(FingerprintChecks.cases());
+        return cases;
+    }
+
+    /**
+     * Parses command-line options.
+     *
+     * @param args command-line options
+     */
+    private void parse(String[] args) {
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--filter" -> filter = args[i + 1];
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+    }
+
+    /**
+     * Runs the matching checks and prints one report line per check.
+     *
+     * @param cases check cases
+     * @return whether every check passed
+     */
+    private boolean run(List<CheckCase> cases) {
+        int passed = 0;
+        int failed = 0;
+        for (CheckCase check : cases) {
+            if (!check.name().contains(filter)) continue;
+            long start = System.nanoTime();
+            String outcome;
+            try {
+                outcome = "PASS  " + check.check().verify();
+                passed++;
+            } catch (Exception | AssertionError e) {
+                outcome = "FAIL  " + e.getMessage();
+                failed++;
+            }
+            System.out.printf("%-56s %7.2f s  %s%n", check.name(), (System.nanoTime() - start) / 1e9, outcome);
+        }
+        System.out.printf("%d passed, %d failed%n", passed, failed);
+        return failed == 0;
+    }
+}
@@ -0,0 +1,200 @@
+package gr.marou.password_generator.check;
+
+import gr.marou.password_generator.policy.PasswordPolicy;
+import gr.marou.password_generator.random.StripedRandomSource;
+import gr.marou.password_generator.service.PasswordService;
+import gr.marou.password_generator.service.PasswordServiceImpl;
+import gr.marou.password_generator.service.PooledPasswordService;
+import gr.marou.password_generator.util.PasswordStrengthUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static gr.marou.password_generator.check.CheckCase.require;
+
+/**
+ * Stress checks of the thread-safety contract of {@link PasswordService}: one instance shared by
+ * many threads, calling every generation method at once, must only ever return valid passwords.
+ * <p>
+ * Every password is checked for its length, repeats and group minimums, its strength is compared
+ * with a single-threaded evaluation, and no password may be returned twice, which would show two
+ * callers sharing scratch buffers or random state.
+ */
+public final class ConcurrencyChecks {
+
+    /** Shortest password generated; long enough that a legitimate repeat is practically impossible. */
+    private static final int MIN_LENGTH = 12;
+    /** Longest password generated. */
+    private static final int MAX_LENGTH = 24;
+
+    /** Private constructor to prevent instantiation. */
+    private ConcurrencyChecks() {}
+
+    /**
+     * Gets the concurrency checks.
+     *
+     * @return check cases
+     */
+    public static List<CheckCase> cases() {
+        int threads = Math.max(16, 4 * Runtime.getRuntime().availableProcessors());
+        return List.of(
+                new CheckCase("concurrency: shared service, platform threads",
+                        () -> stress(new PasswordServiceImpl(), threads, 20_000, false)),
+                new CheckCase("concurrency: shared service, virtual threads",
+                        () -> stress(new PasswordServiceImpl(), 2_000, 100, true)),
+                new CheckCase("concurrency: shared pooled service",
+                        () -> {
+                            try (PooledPasswordService pooled = new PooledPasswordService(new PasswordServiceImpl())) {
+                                return stress(pooled, threads, 20_000, false);
+                            }
+                        }),
+                new CheckCase("concurrency: striped random source under contention",
+                        () -> contendRandomSource(threads, 1_000_000))
+        );
+    }
+
+    /**
+     * Runs callers that share one service and verifies everything they receive.
+     *
+     * @param service  shared service
+     * @param callers  number of concurrent callers
+     * @param requests requests made by each caller
+     * @param virtual  whether the callers run on virtual threads
+     * @return summary of the run
+     * @throws InterruptedException if interrupted while waiting for the callers
+     */
+    private static String stress(PasswordService service, int callers, int requests, boolean virtual)
+            throws InterruptedException {
+        PasswordPolicy policy = PasswordPolicy.defaultPolicy();
+        Set<String> issued = ConcurrentHashMap.newKeySet();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch start = new CountDownLatch(1);
+        long begin = System.nanoTime();
+        try (ExecutorService executor = virtual
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(callers)) {
+            for (int t = 0; t < callers; t++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                        char[] buffer = new char[MAX_LENGTH];
+                        ThreadLocalRandom random = ThreadLocalRandom.current();
+                        for (int i = 0; i < requests && failure.get() == null; i++) {
+                            int length = random.nextInt(MIN_LENGTH, MAX_LENGTH + 1);
+                            switch (i & 3) {
+                                case 0 -> accept(service, policy, service.generatePassword(length), length, issued);
+                                case 1 -> accept(service, policy, service.generatePassword(policy, length), length, issued);
+                                case 2 -> {
+                                    service.generateInto(buffer, 0, length);
+                                    accept(service, policy, new String(buffer, 0, length), length, issued);
+                                }
+                                default -> {
+                                    for (String password : service.generatePasswords(length, 4).passwords()) {
+                                        accept(service, policy, password, length, issued);
+                                    }
+                                }
+                            }
+                        }
+                    } catch (Throwable e) {
+                        failure.compareAndSet(null, e);
+                    }
+                });
+            }
+            start.countDown();
+        }
+        Throwable error = failure.get();
+        require(error == null, "%s", error);
+        return String.format("%,d callers, %,d distinct passwords in %.2f s",
+                callers, issued.size(), (System.nanoTime() - begin) / 1e9);
+    }
+
+    /**
+     * Verifies one password received by a caller and records it.
+     *
+     * @param service  service that generated it
+     * @param policy   policy it must satisfy
+     * @param password generated password
+     * @param length   requested length
+     * @param issued   every password received so far
+     */
+    private static void accept(PasswordService service, PasswordPolicy policy, String password, int length,
+                               Set<String> issued) {
+        require(password.length() == length, "expected %d characters, got \"%s\"", length, password);
+        require(password.chars().distinct().count() == length, "repeated character in \"%s\"", password);
+        for (int group = 0; group < policy.groups().size(); group++) {
+            String characters = policy.groups().get(group);
+            long drawn = password.chars().filter(c -> characters.indexOf(c) >= 0).count();
+            require(drawn >= policy.minimum(group), "group %d below its minimum in \"%s\"", group, password);
+        }
+        require(service.evaluateStrength(password) == PasswordStrengthUtils.evaluate(password.toCharArray()),
+                "concurrent strength of \"%s\" differs from a single-threaded evaluation", password);
+        require(issued.add(password), "\"%s\" was returned twice", password);
+    }
+
+    /**
+     * Draws from a random source with far fewer stripes than callers and checks that consecutive
+     * draws of every caller stay independent and uniform, which breaks as soon as two callers
+     * consume the same buffered bytes.
+     *
+     * @param callers number of concurrent callers
+     * @param draws   draws made by each caller
+     * @return summary of the run
+     * @throws InterruptedException if interrupted while waiting for the callers
+     */
+    private static String contendRandomSource(int callers, int draws) throws InterruptedException {
+        int bound = 16;
+        StripedRandomSource source = new StripedRandomSource(2);
+        AtomicLongArray counts = new AtomicLongArray(bound * bound);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>(callers);
+        for (int t = 0; t < callers; t++) {
+            Thread worker = new Thread(() -> {
+                long[] local = new long[bound * bound];
+                try {
+                    start.await();
+                    int previous = source.nextInt(bound);
+                    for (int i = 0; i < draws; i++) {
+                        int next = source.nextInt(bound);
+                        local[previous * bound + next]++;
+                        previous = next;
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+                for (int pair = 0; pair < local.length; pair++) {
+                    counts.addAndGet(pair, local[pair]);
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        Throwable error = failure.get();
+        require(error == null, "%s", error);
+
+        int cells = counts.length();
+        double expected = (double) callers * draws / cells;
+        double statistic = 0;
+        for (int pair = 0; pair < cells; pair++) {
+            statistic += (counts.get(pair) - expected) * (counts.get(pair) - expected) / expected;
+        }
+        double critical = DistributionChecks.criticalValue(cells - 1);
+        require(statistic <= critical,
+                "chi-square %.1f exceeds the critical value %.1f: consecutive draws are not independent",
+                statistic, critical);
+        return String.format("%,d callers on 2 stripes, chi-square %.1f <= %.1f (df %d)",
+                callers, statistic, critical, cells - 1);
+    }
+}
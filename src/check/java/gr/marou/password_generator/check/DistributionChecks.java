@@ -0,0 +1,195 @@
+package gr.marou.password_generator.check;
+
+import gr.marou.password_generator.policy.PasswordPolicy;
+import gr.marou.password_generator.service.PasswordService;
+import gr.marou.password_generator.service.PasswordServiceImpl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static gr.marou.password_generator.check.CheckCase.require;
+
+/**
+ * Checks that the compiled alphabet engine generates passwords with the same distribution as the
+ * original {@code List<Character>} generator.
+ * <p>
+ * The original generator is reimplemented as {@link BaselineGenerator}. Both generate the same
+ * number of passwords, the characters at every position are counted, and a two-sample chi-square
+ * test compares the counts. Every password is also checked for repeats and group minimums.
+ */
+public final class DistributionChecks {
+
+    /** Normal quantile of the critical values, a false alarm rate of about 1 in 10,000. */
+    private static final double CRITICAL_Z = 3.719;
+
+    /** Private constructor to prevent instantiation. */
+    private DistributionChecks() {}
+
+    /**
+     * Gets the distribution checks.
+     *
+     * @return check cases
+     */
+    public static List<CheckCase> cases() {
+        PasswordPolicy policy = PasswordPolicy.defaultPolicy();
+        PasswordPolicy minimums = PasswordPolicy.builder()
+                .group("abcdef", 3)
+                .group("0123456789", 2)
+                .build();
+        return List.of(
+                new CheckCase("distribution: default policy, length 8",
+                        () -> compare(new PasswordServiceImpl(), policy, 8, 200_000)),
+                new CheckCase("distribution: default policy, longest length",
+                        () -> compare(new PasswordServiceImpl(), policy, policy.maxLength(), 50_000)),
+                new CheckCase("distribution: group minimums above one",
+                        () -> compare(new PasswordServiceImpl(), minimums, 8, 200_000))
+        );
+    }
+
+    /**
+     * Generates passwords with the service and the baseline and compares their distributions.
+     *
+     * @param service service under test
+     * @param policy  generation policy
+     * @param length  password length
+     * @param count   passwords generated by each side
+     * @return summary of the test statistic
+     */
+    private static String compare(PasswordService service, PasswordPolicy policy, int length, int count) {
+        BaselineGenerator baseline = new BaselineGenerator(policy, new SplittableRandom());
+        int[][] actual = new int[length][Character.MAX_VALUE + 1];
+        int[][] expected = new int[length][Character.MAX_VALUE + 1];
+        for (int n = 0; n < count; n++) {
+            String password = service.generatePassword(policy, length);
+            verifyStructure(policy, password, length);
+            String reference = baseline.generate(length);
+            for (int i = 0; i < length; i++) {
+                actual[i][password.charAt(i)]++;
+                expected[i][reference.charAt(i)]++;
+            }
+        }
+
+        double statistic = 0;
+        int degreesOfFreedom = 0;
+        for (int i = 0; i < length; i++) {
+            for (int c = 0; c <= Character.MAX_VALUE; c++) {
+                int a = actual[i][c];
+                int b = expected[i][c];
+                if (a + b == 0) continue;
+                statistic += (double) (a - b) * (a - b) / (a + b);
+                degreesOfFreedom++;
+            }
+            degreesOfFreedom--;
+        }
+        double critical = criticalValue(degreesOfFreedom);
+        require(statistic <= critical,
+                "chi-square %.1f exceeds the critical value %.1f (df %d): the distribution changed",
+                statistic, critical, degreesOfFreedom);
+        return String.format("%,d passwords each, chi-square %.1f <= %.1f (df %d)",
+                count, statistic, critical, degreesOfFreedom);
+    }
+
+    /**
+     * Checks that a password has the requested length, no repeated character and every group minimum.
+     *
+     * @param policy   generation policy
+     * @param password generated password
+     * @param length   requested length
+     */
+    private static void verifyStructure(PasswordPolicy policy, String password, int length) {
+        require(password.length() == length, "expected %d characters, got \"%s\"", length, password);
+        require(password.chars().distinct().count() == length, "repeated character in \"%s\"", password);
+        for (int group = 0; group < policy.groups().size(); group++) {
+            String characters = policy.groups().get(group);
+            long drawn = password.chars().filter(c -> characters.indexOf(c) >= 0).count();
+            require(drawn >= policy.minimum(group), "group %d below its minimum in \"%s\"", group, password);
+        }
+    }
+
+    /**
+     * Approximates the upper critical value of the chi-square distribution (Wilson-Hilferty).
+     *
+     * @param degreesOfFreedom degrees of freedom
+     * @return critical value at {@link #CRITICAL_Z}
+     */
+    static double criticalValue(int degreesOfFreedom) {
+        double k = degreesOfFreedom;
+        double spread = 2 / (9 * k);
+        return k * Math.pow(1 - spread + CRITICAL_Z * Math.sqrt(spread), 3);
+    }
+
+    /**
+     * The original generator: boxed character lists filtered against a {@code HashSet} for every
+     * pick, the group minimums first, then the groups in rotation, then a shuffle of the list.
+     * <p>
+     * The original did not mark the initial characters as used; they are marked here, as the
+     * generator's contract of never repeating a character requires.
+     */
+    private static final class BaselineGenerator {
+
+        /** Characters of each group. */
+        private final List<List<Character>> groups = new ArrayList<>();
+        /** Minimum characters of each group. */
+        private final int[] minimums;
+        /** Random source. */
+        private final SplittableRandom random;
+
+        /**
+         * Creates a baseline generator for a policy.
+         *
+         * @param policy generation policy
+         * @param random random source
+         */
+        private BaselineGenerator(PasswordPolicy policy, SplittableRandom random) {
+            this.minimums = new int[policy.groups().size()];
+            for (int group = 0; group < minimums.length; group++) {
+                groups.add(policy.groups().get(group).chars().mapToObj(c -> (char) c).toList());
+                minimums[group] = policy.minimum(group);
+            }
+            this.random = random;
+        }
+
+        /**
+         * Generates a password.
+         *
+         * @param length password length
+         * @return password
+         */
+        private String generate(int length) {
+            Set<Character> used = new HashSet<>();
+            List<Character> chars = new ArrayList<>();
+            for (int group = 0; group < minimums.length; group++) {
+                for (int i = 0; i < minimums[group]; i++) {
+                    chars.add(pick(groups.get(group), used));
+                }
+            }
+            for (int group = 0; chars.size() < length; group++) {
+                chars.add(pick(groups.get(group % groups.size()), used));
+            }
+            for (int i = chars.size(); i > 1; i--) {
+                Collections.swap(chars, i - 1, random.nextInt(i));
+            }
+            StringBuilder password = new StringBuilder();
+            chars.forEach(password::append);
+            return password.toString();
+        }
+
+        /**
+         * Picks an unused character of a group uniformly and marks it used.
+         *
+         * @param group group characters
+         * @param used  characters already used
+         * @return character
+         */
+        private char pick(List<Character> group, Set<Character> used) {
+            List<Character> available = group.stream().filter(c -> !used.contains(c)).toList();
+            char c = available.get(random.nextInt(available.size()));
+            used.add(c);
+            return c;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package gr.marou.password_generator.check;
+
+import gr.marou.password_generator.exception.PasswordGenerationException;
+import gr.marou.password_generator.util.FingerprintSet;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static gr.marou.password_generator.check.CheckCase.require;
+
+/**
+ * Checks of the {@link FingerprintSet} contract: every distinct password is added once, every
+ * repeat is rejected, whichever overload adds it, and a persisted set keeps its entries, size and
+ * capacity when it is reopened.
+ */
+public final class FingerprintChecks {
+
+    /** Entries each set is sized for. */
+    private static final int ENTRIES = 200_000;
+
+    /** Private constructor to prevent instantiation. */
+    private FingerprintChecks() {}
+
+    /**
+     * Gets the fingerprint set checks.
+     *
+     * @return check cases
+     */
+    public static List<CheckCase> cases() {
+        return List.of(
+                new CheckCase("fingerprint: in-memory set, adds and duplicates",
+                        FingerprintChecks::inMemory),
+                new CheckCase("fingerprint: persisted set across reopen",
+                        FingerprintChecks::persisted)
+        );
+    }
+
+    /**
+     * Fills an in-memory set, adds every entry again through the other overload, overflows it and
+     * uses it after closing.
+     *
+     * @return summary of the run
+     */
+    private static String inMemory() {
+        FingerprintSet set = FingerprintSet.create(ENTRIES);
+        require(set.size() == 0 && set.capacity() == ENTRIES, "new set holds %,d of %,d entries",
+                set.size(), set.capacity());
+        addAll(set, 0, ENTRIES, true);
+        rejectAll(set, 0, ENTRIES);
+        require(set.size() == ENTRIES, "set holds %,d entries after adding %,d", set.size(), ENTRIES);
+        requireFailure(() -> set.add(entry(ENTRIES)), "adding beyond the capacity");
+        set.close();
+        requireFailure(() -> set.add(entry(0)), "adding to a closed set");
+        return String.format("%,d entries added once, every repeat rejected", ENTRIES);
+    }
+
+    /**
+     * Fills a persisted set over two sessions and checks what each reopening sees.
+     *
+     * @return summary of the run
+     * @throws Exception if the temporary file cannot be managed
+     */
+    private static String persisted() throws Exception {
+        Path file = Files.createTempFile("fingerprints-", ".bin");
+        try {
+            Files.delete(file);
+            int half = ENTRIES / 2;
+            try (FingerprintSet set = FingerprintSet.open(file, ENTRIES)) {
+                require(set.size() == 0, "new file holds %,d entries", set.size());
+                addAll(set, 0, half, false);
+            }
+            try (FingerprintSet set = FingerprintSet.open(file, 1)) {
+                require(set.capacity() == ENTRIES, "reopened file has capacity %,d instead of %,d",
+                        set.capacity(), ENTRIES);
+                require(set.size() == half, "reopened file holds %,d entries instead of %,d", set.size(), half);
+                rejectAll(set, 0, half);
+                addAll(set, half, ENTRIES, true);
+            }
+            try (FingerprintSet set = FingerprintSet.open(file, ENTRIES)) {
+                require(set.size() == ENTRIES, "reopened file holds %,d entries instead of %,d",
+                        set.size(), ENTRIES);
+                rejectAll(set, 0, ENTRIES);
+            }
+            return String.format("%,d entries over two sessions, every repeat rejected after reopening", ENTRIES);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Adds a range of distinct entries, each of which must be new.
+     *
+     * @param set   set
+     * @param from  first entry, inclusive
+     * @param to    last entry, exclusive
+     * @param array whether to add through the {@code char[]} overload
+     */
+    private static void addAll(FingerprintSet set, int from, int to, boolean array) {
+        for (int i = from; i < to; i++) {
+            String entry = entry(i);
+            boolean added = array ? set.add(padded(entry), 1, entry.length()) : set.add(entry);
+            require(added, "entry %d (\"%s\") was rejected as a duplicate", i, entry);
+        }
+    }
+
+    /**
+     * Adds a range of entries again through both overloads; each must be rejected and leave the
+     * size unchanged.
+     *
+     * @param set  set
+     * @param from first entry, inclusive
+     * @param to   last entry, exclusive
+     */
+    private static void rejectAll(FingerprintSet set, int from, int to) {
+        long size = set.size();
+        for (int i = from; i < to; i++) {
+            String entry = entry(i);
+            require(!set.add(entry) && !set.add(padded(entry), 1, entry.length()),
+                    "entry %d (\"%s\") was added twice", i, entry);
+        }
+        require(set.size() == size, "rejected repeats changed the size from %,d to %,d", size, set.size());
+    }
+
+    /**
+     * Gets a distinct entry per index: multiplying by an odd constant is a bijection of the longs.
+     *
+     * @param index entry index
+     * @return entry
+     */
+    private static String entry(long index) {
+        return Long.toString(index * 0x9E3779B97F4A7C15L, 36);
+    }
+
+    /**
+     * Wraps an entry in one character on each side, to add it as a range of a larger array.
+     *
+     * @param entry entry
+     * @return padded characters
+     */
+    private static char[] padded(String entry) {
+        return ("#" + entry + "#").toCharArray();
+    }
+
+    /**
+     * Requires an operation to fail with a {@link PasswordGenerationException}.
+     *
+     * @param operation operation
+     * @param what      description for the failure message
+     */
+    private static void requireFailure(Runnable operation, String what) {
+        try {
+            operation.run();
+        } catch (PasswordGenerationException e) {
+            return;
+        }
+        throw new AssertionError(what + " did not fail");
+    }
+}
@@ -0,0 +1,261 @@
+package gr.marou.password_generator.check;
+
+import gr.marou.password_generator.model.enums.StrengthLevel;
+import gr.marou.password_generator.service.PasswordServiceImpl;
+import gr.marou.password_generator.util.IncrementalStrengthMeter;
+import gr.marou.password_generator.util.PasswordStrengthUtils;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static gr.marou.password_generator.check.CheckCase.require;
+
+/**
+ * Differential checks of the allocation-free strength evaluator against the original one.
+ * <p>
+ * The original evaluator is reimplemented as {@link #baseline(String)}. Every input is evaluated
+ * through each overload, {@code String}, {@code CharSequence}, {@code char[]} and a range of a
+ * larger {@code char[]}, and each result must equal the baseline. The
+ * {@link IncrementalStrengthMeter} is checked the same way against the evaluator, after every edit
+ * of a random editing session.
+ */
+public final class StrengthChecks {
+
+    /** Inputs evaluated by each randomized check. */
+    private static final int SAMPLES = 1_000_000;
+    /** Characters padding the range overload on both sides. */
+    private static final String PADDING = "Zz9!";
+    /** Characters the simulated editing sessions type. */
+    private static final String THRESHOLD_ALPHABET = " !9Aa#1Bb~cC3$dDeE4%";
+
+    /** Private constructor to prevent instantiation. */
+    private StrengthChecks() {}
+
+    /**
+     * Gets the strength evaluation checks.
+     *
+     * @return check cases
+     */
+    public static List<CheckCase> cases() {
+        return List.of(
+                new CheckCase("strength: generated passwords",
+                        StrengthChecks::generatedPasswords),
+                new CheckCase("strength: random ASCII around the thresholds",
+                        () -> randomStrings(THRESHOLD_ALPHABET, 20)),
+                new CheckCase("strength: random printable ASCII",
+                        () -> randomStrings(printableAscii(), 24)),
+                new CheckCase("strength: random Unicode, whitespace and surrogates",
+                        () -> randomStrings(unicodeSample(), 24)),
+                new CheckCase("strength: incremental meter, random ASCII edits",
+                        () -> meterEdits(THRESHOLD_ALPHABET, 24)),
+                new CheckCase("strength: incremental meter, random Unicode edits",
+                        () -> meterEdits(unicodeSample(), 24))
+        );
+    }
+
+    /**
+     * Compares the evaluators on passwords issued by the service, at every length it allows.
+     *
+     * @return summary of the run
+     */
+    private static String generatedPasswords() {
+        PasswordServiceImpl service = new PasswordServiceImpl();
+        int compared = 0;
+        for (int length = 4; length <= 40; length++) {
+            for (int i = 0; i < SAMPLES / 40; i++) {
+                compare(service.generatePassword(length));
+                compared++;
+            }
+        }
+        return String.format("%,d passwords of 4-40 characters, identical results", compared);
+    }
+
+    /**
+     * Compares the evaluators on random strings over a small alphabet, where repeats, blanks and
+     * missing classes are frequent enough to hit every threshold.
+     *
+     * @param alphabet  characters drawn from
+     * @param maxLength longest string
+     * @return summary of the run
+     */
+    private static String randomStrings(String alphabet, int maxLength) {
+        SplittableRandom random = new SplittableRandom();
+        int[] levels = new int[StrengthLevel.values().length];
+        StringBuilder input = new StringBuilder(maxLength);
+        for (int i = 0; i < SAMPLES; i++) {
+            input.setLength(0);
+            int length = random.nextInt(maxLength + 1);
+            for (int j = 0; j < length; j++) {
+                input.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            levels[compare(input.toString()).ordinal()]++;
+        }
+        for (StrengthLevel level : StrengthLevel.values()) {
+            require(levels[level.ordinal()] > 0, "no input rated %s; the check does not cover every level", level);
+        }
+        return String.format("%,d strings, identical results, levels %s", SAMPLES, Arrays.toString(levels));
+    }
+
+    /**
+     * Replays random editing sessions on one meter: characters are typed, pasted, deleted from
+     * anywhere and the field is cleared, while a copy of the contents is kept alongside. After
+     * every edit the meter must agree with a full evaluation of the copy.
+     *
+     * @param alphabet  characters typed
+     * @param maxLength longest contents; longer fields only delete
+     * @return summary of the run
+     */
+    private static String meterEdits(String alphabet, int maxLength) {
+        SplittableRandom random = new SplittableRandom();
+        IncrementalStrengthMeter meter = new IncrementalStrengthMeter();
+        StringBuilder contents = new StringBuilder(maxLength + 4);
+        int[] levels = new int[StrengthLevel.values().length];
+        int clears = 0;
+        for (int step = 0; step < SAMPLES; step++) {
+            int action = random.nextInt(64);
+            if (action == 0) {
+                meter.clear();
+                contents.setLength(0);
+                clears++;
+            } else if (contents.length() > 0 && (action < 24 || contents.length() >= maxLength)) {
+                char deleted = contents.charAt(random.nextInt(contents.length()));
+                contents.deleteCharAt(contents.indexOf(String.valueOf(deleted)));
+                meter.delete(deleted);
+            } else if (action < 28) {
+                String pasted = String.valueOf(alphabet.charAt(random.nextInt(alphabet.length())))
+                        + alphabet.charAt(random.nextInt(alphabet.length()));
+                contents.append(pasted);
+                meter.append(pasted);
+            } else {
+                char typed = alphabet.charAt(random.nextInt(alphabet.length()));
+                contents.append(typed);
+                meter.append(typed);
+            }
+
+            StrengthLevel expected = PasswordStrengthUtils.evaluate(contents);
+            StrengthLevel actual = meter.strength();
+            if (actual != expected || meter.length() != contents.length()) {
+                throw new AssertionError(String.format("after %,d edits the meter rates \"%s\" %s with length %d, "
+                        + "a full evaluation rates it %s", step + 1, escape(contents.toString()), actual,
+                        meter.length(), expected));
+            }
+            levels[expected.ordinal()]++;
+        }
+        for (StrengthLevel level : StrengthLevel.values()) {
+            require(levels[level.ordinal()] > 0, "no contents rated %s; the check does not cover every level", level);
+        }
+        return String.format("%,d edits, %,d clears, identical results, levels %s",
+                SAMPLES, clears, Arrays.toString(levels));
+    }
+
+    /**
+     * Evaluates an input through every overload and compares each result with the baseline.
+     *
+     * @param input input
+     * @return the common result
+     */
+    private static StrengthLevel compare(String input) {
+        StrengthLevel expected = baseline(input);
+        char[] padded = (PADDING + input + PADDING).toCharArray();
+        StrengthLevel[] actual = {
+                PasswordStrengthUtils.evaluate(input),
+                PasswordStrengthUtils.evaluate((CharSequence) new StringBuilder(input)),
+                PasswordStrengthUtils.evaluate(input.toCharArray()),
+                PasswordStrengthUtils.evaluate(padded, PADDING.length(), input.length())
+        };
+        for (StrengthLevel level : actual) {
+            if (level != expected) {
+                throw new AssertionError(String.format("\"%s\" rated %s, the original evaluator rates it %s",
+                        escape(input), level, expected));
+            }
+        }
+        return expected;
+    }
+
+    /**
+     * The original evaluator: {@code Character} class tests for variety and a boxed
+     * {@code HashSet} for uniqueness.
+     *
+     * @param password password
+     * @return strength level
+     */
+    private static StrengthLevel baseline(String password) {
+        if (password == null || password.isBlank()) return StrengthLevel.WEAK;
+        int length = password.length();
+
+        boolean hasLower = false;
+        boolean hasUpper = false;
+        boolean hasDigit = false;
+        boolean hasSpecial = false;
+        for (char ch : password.toCharArray()) {
+            if (Character.isLowerCase(ch)) hasLower = true;
+            else if (Character.isUpperCase(ch)) hasUpper = true;
+            else if (Character.isDigit(ch)) hasDigit = true;
+            else hasSpecial = true;
+        }
+        int variety = (hasLower ? 1 : 0) + (hasUpper ? 1 : 0) + (hasDigit ? 1 : 0) + (hasSpecial ? 1 : 0);
+
+        Set<Character> unique = new HashSet<>();
+        for (char ch : password.toCharArray()) {
+            unique.add(ch);
+        }
+        double uniquenessRatio = (double) unique.size() / length;
+
+        if (length < 8 || variety < 2 || uniquenessRatio < 0.5) {
+            return StrengthLevel.WEAK;
+        } else if (length <= 10 && variety >= 2 && uniquenessRatio >= 0.5) {
+            return StrengthLevel.FAIR;
+        } else if (length <= 14 && variety == 4 && uniquenessRatio >= 0.7) {
+            return StrengthLevel.STRONG;
+        } else if (length > 14 && variety == 4 && uniquenessRatio >= 0.8) {
+            return StrengthLevel.VERY_STRONG;
+        }
+        return StrengthLevel.FAIR;
+    }
+
+    /**
+     * Gets the printable ASCII characters and the space.
+     *
+     * @return characters
+     */
+    private static String printableAscii() {
+        StringBuilder characters = new StringBuilder();
+        for (char c = ' '; c < 0x7F; c++) {
+            characters.append(c);
+        }
+        return characters.toString();
+    }
+
+    /**
+     * Gets a mix of characters outside ASCII: Greek and Latin-1 letters, a titlecase letter, the
+     * digits and numerals of other scripts, Unicode whitespace, controls, a surrogate pair that
+     * random strings split, a noncharacter and CJK.
+     *
+     * @return characters
+     */
+    private static String unicodeSample() {
+        return "aZ5!"
+                + "\u03B1\u03A9\u03B2\u03A3\u00E9\u00C9\u00DF\u01C5"
+                + "\u0663\u0966\uFF15\u216B"
+                + "\u00A0\u2003\u3000\t\n\u000B\u001F\u200B"
+                + "\uD83D\uDE00\uFFFF\u4E2D\u30FC";
+    }
+
+    /**
+     * Escapes the characters of an input that do not print, for failure messages.
+     *
+     * @param input input
+     * @return escaped input
+     */
+    private static String escape(String input) {
+        StringBuilder escaped = new StringBuilder();
+        for (char c : input.toCharArray()) {
+            if (c >= ' ' && c < 0x7F) escaped.append(c);
+            else escaped.append(String.format("\\u%04X", (int) c));
+        }
+        return escaped.toString();
+    }
+}
@@ -1,26 +1,27 @@
 package gr.marou.password_generator;
 
 import gr.marou.password_generator.cli.CLIRunner;
+import gr.marou.password_generator.cli.DaemonClient;
+import gr.marou.password_generator.exception.PasswordGenerationException;
+import gr.marou.password_generator.model.enums.ASCIColors;
 import gr.marou.password_generator.service.PasswordService;
 import gr.marou.password_generator.service.PasswordServiceImpl;
+import gr.marou.password_generator.util.PasswordBreachChecker;
 
 import static gr.marou.password_generator.util.LogUtils.*;
+import java.nio.file.Path;
 import java.util.logging.*;
 
 /**
  * Entry point of the password generator CLI application.
  * <p>
- * It initializes logging, sets up the password service, and runs the CLI logic.
+ * Plain length requests are first forwarded to a running daemon, unless a breach index is
+ * configured; otherwise it initializes logging, sets up the password service, and runs the CLI logic.
  */
 public class Main {
 
-    /** Application logger for CLI output. */
-    private static final Logger log = Logger.getLogger(Main.class.getName());
-
-    // Configure logging on class load to exclude time and level outputs.
-    static {
-        configureRootLogger();
-    }
+    /** Environment variable naming a breach index to check generated passwords against. */
+    private static final String BREACH_INDEX_ENV = "PASSWORD_BREACH_INDEX";
 
     /**
      * Main method that launches the password generator.
@@ -28,8 +29,49 @@ public class Main {
      * @param args Command-line arguments (optional password length)
      */
     public static void main(String[] args) {
-        PasswordService passwordService = new PasswordServiceImpl();
-        new CLIRunner(log, passwordService).run(args);
+        // The daemon may run without the breach index, so requests that need the check stay in-process
+        if (breachIndex() == null && DaemonClient.forward(args)) {
+            return;
+        }
+        // Configure logging to exclude time and level outputs, only when running in-process
+        configureRootLogger();
+        // Application logger for CLI output
+        Logger log = Logger.getLogger(Main.class.getName());
+
+        try {
+            PasswordBreachChecker breachChecker;
+            try {
+                breachChecker = openBreachIndex();
+            } catch (PasswordGenerationException e) {
+                error(log, e.getMessage(), ASCIColors.RED);
+                return;
+            }
+            PasswordService passwordService = new PasswordServiceImpl(breachChecker);
+            new CLIRunner(log, passwordService).run(args);
+        } finally {
+            // Messages are written by a background thread; write out what is left before exiting
+            shutdownLogging();
+        }
+    }
+
+    /**
+     * Opens the breach index named by the environment, if any.
+     *
+     * @return breach checker, or null when no index is configured
+     */
+    private static PasswordBreachChecker openBreachIndex() {
+        String index = breachIndex();
+        return index == null ? null : PasswordBreachChecker.open(Path.of(index));
+    }
+
+    /**
+     * Gets the breach index named by the environment.
+     *
+     * @return index path, or null when no index is configured
+     */
+    private static String breachIndex() {
+        String index = System.getenv(BREACH_INDEX_ENV);
+        return index == null || index.isBlank() ? null : index;
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,325 @@
+package gr.marou.password_generator.audit;
+
+import gr.marou.password_generator.exception.PasswordGenerationException;
+import gr.marou.password_generator.model.dto.AuditOffenderDTO;
+import gr.marou.password_generator.model.dto.AuditReportDTO;
+import gr.marou.password_generator.model.enums.StrengthLevel;
+import gr.marou.password_generator.util.PasswordStrengthUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Audits large password files, one password per line, against {@link PasswordStrengthUtils}.
+ * <p>
+ * The file is split into line-aligned chunks that are memory-mapped and evaluated in parallel.
+ * Lines are decoded as UTF-8 into a reusable per-chunk character buffer and evaluated in place,
+ * so no {@code String} is created per line; only the final worst offenders are materialized.
+ */
+public class PasswordAuditor {
+
+    /** Target size of a mapped chunk; chunks are extended to the end of their last line. */
+    private static final long CHUNK_SIZE = 64L << 20;
+    /** Bytes read at a time while looking for the end of a line. */
+    private static final int SCAN_SIZE = 4096;
+    /** Initial capacity of the per-chunk line buffer. */
+    private static final int LINE_CAPACITY = 256;
+    /** Orders offenders from weakest (lowest level, then shortest, then earliest) to least weak. */
+    private static final Comparator<Offender> WEAKEST_FIRST = Comparator
+            .comparingInt((Offender o) -> o.strength().ordinal())
+            .thenComparingInt(Offender::length)
+            .thenComparingLong(Offender::offset);
+
+    /** Number of worker threads. */
+    private final int parallelism;
+    /** Number of worst offenders kept in the report. */
+    private final int offenderLimit;
+
+    /**
+     * Creates an auditor using every processor and reporting the 10 weakest passwords.
+     */
+    public PasswordAuditor() {
+        this(Runtime.getRuntime().availableProcessors(), 10);
+    }
+
+    /**
+     * Creates an auditor.
+     *
+     * @param parallelism   number of worker threads
+     * @param offenderLimit number of weakest passwords to report
+     */
+    public PasswordAuditor(int parallelism, int offenderLimit) {
+        if (parallelism < 1 || offenderLimit < 0) {
+            throw new PasswordGenerationException("Audit parallelism must be at least 1 and the offender limit not negative.");
+        }
+        this.parallelism = parallelism;
+        this.offenderLimit = offenderLimit;
+    }
+
+    /**
+     * Audits the given file.
+     *
+     * @param file file with one password per line
+     * @return strength histogram, worst offenders and throughput
+     */
+    public AuditReportDTO audit(Path file) {
+        long start = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            List<Callable<ChunkResult>> tasks = new ArrayList<>();
+            for (long[] chunk : splitChunks(channel, size)) {
+                tasks.add(() -> auditChunk(channel, chunk[0], chunk[1]));
+            }
+
+            ChunkResult total = new ChunkResult(offenderLimit);
+            ExecutorService pool = Executors.newFixedThreadPool(parallelism);
+            try {
+                for (Future<ChunkResult> result : pool.invokeAll(tasks)) {
+                    total.merge(result.get());
+                }
+            } finally {
+                pool.shutdownNow();
+            }
+            return total.toReport(channel, size, System.nanoTime() - start);
+        } catch (IOException e) {
+            throw new PasswordGenerationException("Could not read audit file: " + file, e);
+        } catch (ExecutionException e) {
+            throw new PasswordGenerationException("Audit failed: " + e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PasswordGenerationException("Audit interrupted.", e);
+        }
+    }
+
+    /**
+     * Splits the file into chunks of about {@link #CHUNK_SIZE} bytes that end on a line boundary.
+     *
+     * @param channel file channel
+     * @param size    file size
+     * @return chunk start offsets and lengths
+     * @throws IOException if the file cannot be read
+     */
+    private List<long[]> splitChunks(FileChannel channel, long size) throws IOException {
+        List<long[]> chunks = new ArrayList<>();
+        long position = 0;
+        while (position < size) {
+            long end = Math.min(position + CHUNK_SIZE, size);
+            if (end < size) {
+                end = nextLineStart(channel, end, size);
+            }
+            if (end - position > Integer.MAX_VALUE) {
+                throw new PasswordGenerationException("Audit file contains a line longer than 2 GB.");
+            }
+            chunks.add(new long[]{position, end - position});
+            position = end;
+        }
+        return chunks;
+    }
+
+    /**
+     * Finds the offset just after the next newline at or after the given position.
+     *
+     * @param channel  file channel
+     * @param position offset to start scanning from
+     * @param size     file size
+     * @return start offset of the next line, or the file size
+     * @throws IOException if the file cannot be read
+     */
+    private long nextLineStart(FileChannel channel, long position, long size) throws IOException {
+        ByteBuffer scan = ByteBuffer.allocate(SCAN_SIZE);
+        while (position < size) {
+            scan.clear();
+            int read = channel.read(scan, position);
+            if (read <= 0) break;
+            for (int i = 0; i < read; i++) {
+                if (scan.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    /**
+     * Maps and evaluates one chunk.
+     *
+     * @param channel file channel
+     * @param start   chunk offset in the file
+     * @param length  chunk length
+     * @return chunk histogram and weakest passwords
+     * @throws IOException if the chunk cannot be mapped
+     */
+    private ChunkResult auditChunk(FileChannel channel, long start, long length) throws IOException {
+        MappedByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+        ByteBuffer view = bytes.duplicate();
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        ChunkResult result = new ChunkResult(offenderLimit);
+        char[] line = new char[LINE_CAPACITY];
+
+        int limit = bytes.limit();
+        int lineStart = 0;
+        for (int i = 0; i <= limit; i++) {
+            if (i < limit && bytes.get(i) != '\n') continue;
+
+            int lineEnd = i;
+            if (lineEnd > lineStart && bytes.get(lineEnd - 1) == '\r') lineEnd--;
+            int byteLength = lineEnd - lineStart;
+            if (byteLength > 0) {
+                if (line.length < byteLength) {
+                    line = new char[Math.max(byteLength, line.length * 2)];
+                }
+                int charLength = decodeLine(bytes, view, decoder, line, lineStart, lineEnd);
+                StrengthLevel strength = PasswordStrengthUtils.evaluate(line, 0, charLength);
+                result.add(start + lineStart, byteLength, strength, charLength);
+            }
+            lineStart = i + 1;
+        }
+        return result;
+    }
+
+    /**
+     * Decodes a line into the character buffer, copying ASCII bytes directly.
+     *
+     * @param bytes     mapped chunk
+     * @param view      reusable view of the chunk for the decoder
+     * @param decoder   reusable UTF-8 decoder
+     * @param line      destination, at least as long as the line in bytes
+     * @param lineStart first byte of the line
+     * @param lineEnd   end of the line, exclusive
+     * @return number of characters decoded
+     */
+    private int decodeLine(ByteBuffer bytes, ByteBuffer view, CharsetDecoder decoder,
+                           char[] line, int lineStart, int lineEnd) {
+        int length = 0;
+        for (int i = lineStart; i < lineEnd; i++) {
+            byte b = bytes.get(i);
+            if (b < 0) {
+                // Non-ASCII line: decode as UTF-8, which never yields more chars than bytes
+                view.limit(lineEnd).position(lineStart);
+                CharBuffer out = CharBuffer.wrap(line);
+                decoder.reset();
+                decoder.decode(view, out, true);
+                decoder.flush(out);
+                return out.position();
+            }
+            line[length++] = (char) b;
+        }
+        return length;
+    }
+
+    /**
+     * A weak password located by offset, before it is read back as text.
+     *
+     * @param offset     byte offset of the line
+     * @param byteLength length of the line in bytes
+     * @param strength   strength level
+     * @param length     length in characters
+     */
+    private record Offender(long offset, int byteLength, StrengthLevel strength, int length) {}
+
+    /**
+     * Histogram and weakest passwords of part of the file.
+     */
+    private static final class ChunkResult {
+
+        /** Passwords per strength level, indexed by ordinal. */
+        private final long[] histogram = new long[StrengthLevel.values().length];
+        /** Weakest passwords kept, with the least weak at the head. */
+        private final PriorityQueue<Offender> offenders = new PriorityQueue<>(WEAKEST_FIRST.reversed());
+        /** Number of passwords to keep. */
+        private final int limit;
+        /** Number of passwords evaluated. */
+        private long lines;
+
+        /**
+         * Creates an empty result.
+         *
+         * @param limit number of weakest passwords to keep
+         */
+        private ChunkResult(int limit) {
+            this.limit = limit;
+        }
+
+        /**
+         * Records an evaluated password.
+         */
+        private void add(long offset, int byteLength, StrengthLevel strength, int length) {
+            lines++;
+            histogram[strength.ordinal()]++;
+            if (limit == 0) return;
+            Offender head = offenders.peek();
+            if (offenders.size() < limit) {
+                offenders.add(new Offender(offset, byteLength, strength, length));
+            } else if (head.strength().ordinal() > strength.ordinal()
+                    || (head.strength() == strength && head.length() > length)) {
+                offenders.poll();
+                offenders.add(new Offender(offset, byteLength, strength, length));
+            }
+        }
+
+        /**
+         * Adds another result to this one.
+         *
+         * @param other result of another chunk
+         */
+        private void merge(ChunkResult other) {
+            lines += other.lines;
+            for (int i = 0; i < histogram.length; i++) {
+                histogram[i] += other.histogram[i];
+            }
+            for (Offender offender : other.offenders) {
+                offenders.add(offender);
+                if (offenders.size() > limit) offenders.poll();
+            }
+        }
+
+        /**
+         * Builds the report, reading the worst offenders back from the file.
+         *
+         * @param channel      file channel
+         * @param size         file size
+         * @param elapsedNanos time spent
+         * @return audit report
+         * @throws IOException if the file cannot be read
+         */
+        private AuditReportDTO toReport(FileChannel channel, long size, long elapsedNanos) throws IOException {
+            Map<StrengthLevel, Long> counts = new EnumMap<>(StrengthLevel.class);
+            for (StrengthLevel level : StrengthLevel.values()) {
+                counts.put(level, histogram[level.ordinal()]);
+            }
+            List<Offender> weakest = new ArrayList<>(offenders);
+            weakest.sort(WEAKEST_FIRST);
+            List<AuditOffenderDTO> worst = new ArrayList<>(weakest.size());
+            for (Offender offender : weakest) {
+                ByteBuffer text = ByteBuffer.allocate(offender.byteLength());
+                channel.read(text, offender.offset());
+                text.flip();
+                worst.add(new AuditOffenderDTO(offender.offset(),
+                        StandardCharsets.UTF_8.decode(text).toString(), offender.strength()));
+            }
+            return new AuditReportDTO(lines, size, elapsedNanos, counts, List.copyOf(worst));
+        }
+    }
+}
@@ -1,10 +1,38 @@
 package gr.marou.password_generator.cli;
 
+import gr.marou.password_generator.audit.PasswordAuditor;
 import gr.marou.password_generator.exception.PasswordGenerationException;
+import gr.marou.password_generator.export.PasswordExporter;
+import gr.marou.password_generator.fixture.FixturePasswordGenerator;
+import gr.marou.password_generator.metrics.GeneratorMetrics;
+import gr.marou.password_generator.model.dto.AuditOffenderDTO;
+import gr.marou.password_generator.model.dto.AuditReportDTO;
+import gr.marou.password_generator.model.dto.ExportReportDTO;
+import gr.marou.password_generator.model.dto.ProvisioningReportDTO;
+import gr.marou.password_generator.model.dto.ThroughputSampleDTO;
 import gr.marou.password_generator.model.enums.ASCIColors;
+import gr.marou.password_generator.model.enums.OutputFormat;
 import gr.marou.password_generator.model.enums.PasswordSizeNumbers;
 import gr.marou.password_generator.model.enums.StrengthLevel;
+import gr.marou.password_generator.model.enums.TokenEncoding;
+import gr.marou.password_generator.provisioning.ProvisioningPipeline;
+import gr.marou.password_generator.server.DaemonProtocol;
+import gr.marou.password_generator.server.PasswordDaemon;
+import gr.marou.password_generator.server.PasswordHttpServer;
+import gr.marou.password_generator.service.LongSecretGenerator;
 import gr.marou.password_generator.service.PasswordService;
+import gr.marou.password_generator.service.TokenGenerator;
+import gr.marou.password_generator.util.FingerprintSet;
+import gr.marou.password_generator.util.IncrementalStrengthMeter;
+import gr.marou.password_generator.util.PasswordBreachChecker;
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.logging.Logger;
 import static gr.marou.password_generator.util.LogUtils.*;
@@ -14,6 +42,73 @@ import static gr.marou.password_generator.util.LogUtils.*;
  */
 public class CLIRunner {
 
+    /** Option selecting the password-file audit mode. */
+    private static final String AUDIT_OPTION = "--audit";
+    /** Option compiling a breach dump into a breach index. */
+    private static final String BUILD_BREACH_INDEX_OPTION = "--build-breach-index";
+    /** Option starting the HTTP server mode. */
+    private static final String SERVE_OPTION = "--serve";
+    /** Option naming the address the HTTP server listens on. */
+    private static final String BIND_OPTION = "--bind";
+    /** Port served when none is given. */
+    private static final int DEFAULT_PORT = 8080;
+    /** Highest TCP port number. */
+    private static final int MAX_PORT = 0xFFFF;
+    /** Option starting the resident daemon mode. */
+    private static final String DAEMON_OPTION = "--daemon";
+    /** Option generating one long, high-entropy secret. */
+    private static final String LONG_OPTION = "--long";
+    /** Option starting the interactive strength meter. */
+    private static final String INTERACTIVE_OPTION = "--interactive";
+    /** Option generating one random API token. */
+    private static final String TOKEN_OPTION = "--token";
+    /** Option setting the random bytes of a token. */
+    private static final String BYTES_OPTION = "--bytes";
+    /** Option setting the text encoding of a token. */
+    private static final String ENCODING_OPTION = "--encoding";
+    /** Option setting the prefix of a token. */
+    private static final String PREFIX_OPTION = "--prefix";
+    /** Option appending a checksum to a token. */
+    private static final String CHECKSUM_OPTION = "--checksum";
+    /** Option selecting the bulk output mode and the number of passwords. */
+    private static final String COUNT_OPTION = "--count";
+    /** Option naming the bulk output file, {@code -} for the standard output. */
+    private static final String OUT_OPTION = "--out";
+    /** Option selecting the bulk output format. */
+    private static final String FORMAT_OPTION = "--format";
+    /** Option guaranteeing that bulk output never repeats a password. */
+    private static final String UNIQUE_OPTION = "--unique";
+    /** Option naming the fingerprint file that carries uniqueness across runs. */
+    private static final String UNIQUE_FILE_OPTION = "--unique-file";
+    /** Smallest capacity of a new fingerprint file, leaving room for later runs. */
+    private static final long UNIQUE_FILE_ENTRIES = 1_000_000L;
+    /** Option switching bulk output to deterministic fixture passwords of the given seed. */
+    private static final String FIXTURE_SEED_OPTION = "--fixture-seed";
+    /** Option giving the first fixture index of the bulk output. */
+    private static final String FROM_OPTION = "--from";
+    /** Option measuring how parallel generation scales with the number of threads. */
+    private static final String SCALING_OPTION = "--scaling";
+    /** Option starting the generate-and-hash provisioning mode. */
+    private static final String PROVISION_OPTION = "--provision";
+    /** Option measuring how provisioning scales with the number of threads. */
+    private static final String PROVISION_SCALING_OPTION = "--provision-scaling";
+    /** Option giving the password length of the provisioning modes. */
+    private static final String LENGTH_OPTION = "--length";
+    /** Option giving the PBKDF2 iteration count. */
+    private static final String ITERATIONS_OPTION = "--iterations";
+    /** Option giving the salt size in bytes. */
+    private static final String SALT_BYTES_OPTION = "--salt-bytes";
+    /** Option giving the number of hashing threads. */
+    private static final String THREADS_OPTION = "--threads";
+    /** Largest number of hashing threads, the parallelism limit of a fork-join pool. */
+    private static final int MAX_THREADS = 0x7FFF;
+    /** Banner printed before every run. */
+    static final String HEADER = """
+            =========================================
+            ||      Strong Password Generator      ||
+            =========================================
+            """;
+
     /** Logger for displaying output messages. */
     private final Logger log;
     /** Service for password generation and evaluation. */
@@ -38,6 +133,47 @@ public class CLIRunner {
     public void run(String[] args) {
         printHeader();
 
+        if (args.length > 0 && AUDIT_OPTION.equals(args[0])) {
+            runAudit(args);
+            return;
+        }
+        if (args.length > 0 && BUILD_BREACH_INDEX_OPTION.equals(args[0])) {
+            runBuildBreachIndex(args);
+            return;
+        }
+        if (args.length > 0 && SERVE_OPTION.equals(args[0])) {
+            runServe(args);
+            return;
+        }
+        if (args.length > 0 && DAEMON_OPTION.equals(args[0])) {
+            runDaemon(args);
+            return;
+        }
+        if (args.length > 0 && LONG_OPTION.equals(args[0])) {
+            runLong(args);
+            return;
+        }
+        if (args.length > 0 && INTERACTIVE_OPTION.equals(args[0])) {
+            runInteractive(args);
+            return;
+        }
+        if (args.length > 0 && TOKEN_OPTION.equals(args[0])) {
+            runToken(args);
+            return;
+        }
+        if (args.length > 0 && SCALING_OPTION.equals(args[0])) {
+            runScaling(args);
+            return;
+        }
+        if (args.length > 0 && (PROVISION_OPTION.equals(args[0]) || PROVISION_SCALING_OPTION.equals(args[0]))) {
+            runProvision(args);
+            return;
+        }
+        if (Arrays.asList(args).contains(COUNT_OPTION)) {
+            runExport(args);
+            return;
+        }
+
         Integer length = checkPasswordLength(args);
         if (Objects.isNull(length)) return;
 
@@ -53,6 +189,516 @@ public class CLIRunner {
         }
     }
 
+    /**
+     * Audits a password file and prints the strength histogram and the weakest passwords.
+     *
+     * @param args CLI arguments, {@code --audit <file>}
+     */
+    private void runAudit(String[] args) {
+        if (args.length != 2) {
+            error(log, "Invalid arguments. The audit mode expects exactly one file.", ASCIColors.RED);
+            printUsage();
+            return;
+        }
+        Path file = Path.of(args[1]);
+        if (!Files.isRegularFile(file)) {
+            error(log, "Audit file not found: " + file, ASCIColors.RED);
+            return;
+        }
+
+        try {
+            AuditReportDTO report = new PasswordAuditor().audit(file);
+            info(log, () -> String.format("Audited %,d passwords (%.1f MB) in %.2f s: %.1f MB/s, %,.0f lines/s",
+                    report.lines(), report.bytes() / (1024d * 1024d), report.elapsedNanos() / 1e9,
+                    report.megabytesPerSecond(), report.linesPerSecond()), ASCIColors.YELLOW);
+            report.histogram().forEach((level, count) -> info(log,
+                    () -> String.format("%-12s %,d", level.getValue() + ":", count), StrengthLevel.getStrengthColor(level)));
+            if (!report.worstOffenders().isEmpty()) {
+                info(log, "Worst offenders:", ASCIColors.RED);
+                for (AuditOffenderDTO offender : report.worstOffenders()) {
+                    info(log, () -> String.format("  [offset %d] %s (%s)",
+                            offender.offset(), offender.password(), offender.strength().getValue()), ASCIColors.RED);
+                }
+            }
+        } catch (PasswordGenerationException e) {
+            error(log, e.getMessage(), ASCIColors.RED);
+        } catch (Exception e) {
+            error(log, "Internal Server Error: " + e.getMessage(), ASCIColors.RED);
+        }
+    }
+
+    /**
+     * Compiles a breach dump into a memory-mappable breach index.
+     *
+     * @param args CLI arguments, {@code --build-breach-index <dump> <index>}
+     */
+    private void runBuildBreachIndex(String[] args) {
+        if (args.length != 3) {
+            error(log, "Invalid arguments. Expected a dump file and an index file.", ASCIColors.RED);
+            printUsage();
+            return;
+        }
+        try {
+            long start = System.nanoTime();
+            long entries = PasswordBreachChecker.buildIndex(Path.of(args[1]), Path.of(args[2]));
+            info(log, String.format("Breach index written to %s: %,d distinct entries in %.2f s",
+                    args[2], entries, (System.nanoTime() - start) / 1e9), ASCIColors.GREEN);
+        } catch (PasswordGenerationException e) {
+            error(log, e.getMessage(), ASCIColors.RED);
+        } catch (Exception e) {
+            error(log, "Internal Server Error: " + e.getMessage(), ASCIColors.RED);
+        }
+    }
+
+    /**
+     * Serves generation and evaluation over HTTP until the process is stopped.
+     * <p>
+     * Passwords travel as plain HTTP, so only the loopback interface is served unless another
+     * address is given explicitly.
+     *
+     * @param args CLI arguments, {@code --serve [port] [--bind <address>]}
+     */
+    private void runServe(String[] args) {
+        int port = DEFAULT_PORT;
+        String bind = null;
+        try {
+            for (int i = 1; i < args.length; i++) {
+                if (BIND_OPTION.equals(args[i]) && i + 1 < args.length) {
+                    bind = args[++i];
+                } else if (i == 1 && isNumeric(args[i])) {
+                    port = parseInt(args[i], "Invalid port. The port must be a numeric value.", "port", 0, MAX_PORT);
+                } else {
+                    throw new PasswordGenerationException(
+                            "Invalid arguments. The serve mode expects an optional numeric port and --bind <address>.");
+                }
+            }
+        } catch (PasswordGenerationException e) {
+            error(log, e.getMessage(), ASCIColors.RED);
+            printUsage();
+            return;
+        }
+
+        try {
+            InetAddress address = bind == null ? InetAddress.getLoopbackAddress() : InetAddress.getByName(bind);
+            GeneratorMetrics.get().register();
+            PasswordHttpServer server = PasswordHttpServer.start(passwordService, new InetSocketAddress(address, port));
+            Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+            if (!address.isLoopbackAddress()) {
+                warning(log, "Serving beyond the loopback interface: passwords are sent unencrypted over HTTP.",
+                        ASCIColors.YELLOW);
+            }
+            info(log, String.format("Serving on http://%s:%d (GET /generate?length=&count=, POST /evaluate)",
+                    address.getHostAddress(), server.port()), ASCIColors.GREEN);
+            server.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (PasswordGenerationException e) {
+            error(log, e.getMessage(), ASCIColors.RED);
+        } catch (Exception e) {
+            error(log, "Internal Server Error: " + e.getMessage(), ASCIColors.RED);
+        }
+    }
+
+    /**
+     * Keeps a warmed-up service resident behind a Unix domain socket until the process is stopped.
+     *
+     * @param args CLI arguments, {@code --daemon}
+     */
+    private void runDaemon(String[] args) {
+        if (args.length != 1) {
+            error(log, "Invalid arguments. The daemon mode takes no arguments.", ASCIColors.RED);
+            printUsage();
+            return;
+        }
+
+        try {
+            GeneratorMetrics.get().register();
+            PasswordDaemon daemon = PasswordDaemon.start(passwordService, DaemonProtocol.socketPath());
+            Runtime.getRuntime().addShutdownHook(new Thread(daemon::close));
+            info(log, "Daemon listening on " + daemon.socket(), ASCIColors.GREEN);
+            daemon.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (PasswordGenerationException e) {
+            error(log, e.getMessage(), ASCIColors.RED);
+        } catch (Exception e) {
+            error(log, "Internal Server Error: " + e.getMessage(), ASCIColors.RED);
+        }
+    }
+
+    /**
+     * Generates one long secret, allowing repeated characters, and prints its entropy.
+     *
+     * @param args CLI arguments, {@code --long <length>}
+     */
+    private void runLong(String[] args) {
+        if (args.length != 2 || !isNumeric(args[1])) {
+            error(log, "Invalid arguments. The long mode expects a numeric length.", ASCIColors.RED);
+            printUsage();
+            return;
+        }
+        int length = Integer.parseInt(args[1]);
+
+        try {
+            LongSecretGenerator generator = new LongSecretGenerator();
+            String secret = generator.generate(length);
+            info(log, "Generated Secret: " + secret, ASCIColors.GREEN);
+            info(log, String.format("Entropy: %.1f bits (%d characters from %d)",
+                    generator.entropyBits(length), length, generator.alphabetSize()), ASCIColors.YELLOW);
+        } catch (PasswordGenerationException e) {
+            error(log, e.getMessage(), ASCIColors.RED);
+        } catch (Exception e) {
+            error(log, "Internal Server Error: " + e.getMessage(), ASCIColors.RED);
+        }
+    }
+
+    /**
+     * Rates each line read from the standard input with an incremental strength meter, treating
+     * every line as the next state of a password field: only the characters that changed since the
+     * previous line are deleted and appended, as a typing user would.
+     *
+     * @param args CLI arguments, {@code --interactive}
+     */
+    private void runInteractive(String[] args) {
+        if (args.length != 1) {
+            error(log, "Invalid arguments. The interactive mode takes no arguments.", ASCIColors.RED);
+            printUsage();
+            return;
+        }
+
+        IncrementalStrengthMeter meter = new IncrementalStrengthMeter();
+        String previous = "";
+        info(log, "Type a password and press Enter to rate it; edit and press Enter again. End with Ctrl-D.",
+                ASCIColors.YELLOW);
+        try {
+            BufferedReader in = new BufferedReader(new InputStreamReader(System.in));
+            String line;
+            while ((line = in.readLine()) != null) {
+                int common = 0;
+                int shared = Math.min(previous.length(), line.length());
+                while (common < shared && previous.charAt(common) == line.charAt(common)) {
+                    common++;
+                }
+                if (common == 0) {
+                    meter.clear();
+                } else {
+                    for (int i = previous.length() - 1; i >= common; i--) {
+                        meter.delete(previous.charAt(i));
+                    }
+                }
+                meter.append(line.subSequence(common, line.length()));
+                int deleted = previous.length() - common;
+                int appended = line.length() - common;
+                StrengthLevel strength = meter.strength();
+                info(log, () -> String.format("Password Strength: %s (%d characters, %d distinct; -%d +%d keystrokes)",
+                        strength.getValue(), meter.length(), meter.uniqueCount(), deleted, appended),
+                        StrengthLevel.getStrengthColor(strength));
+                previous = line;
+            }
+        } catch (PasswordGenerationException e) {
+            error(log, e.getMessage(), ASCIColors.RED);
+        } catch (Exception e) {
+            error(log, "Internal Server Error: " + e.getMessage(), ASCIColors.RED);
+        }
+    }
+
+    /**
+     * Generates one API token from random bytes.
+     *
+     * @param args CLI arguments, {@code --token [--bytes n] [--encoding hex|base32|base64url] [--prefix p] [--checksum]}
+     */
+    private void runToken(String[] args) {
+        try {
+            int bytes = TokenGenerator.DEFAULT_BYTES;
+            TokenEncoding encoding = TokenEncoding.BASE64URL;
+            String prefix = "";
+            boolean checksum = false;
+            for (int i = 1; i < args.length; i++) {
+                boolean hasValue = i + 1 < args.length;
+                switch (args[i]) {
+                    case BYTES_OPTION -> bytes = parseInt(hasValue ? args[++i] : "",
+                            "Invalid token size. The size must be a numeric value.",
+                            "token size", 1, TokenGenerator.MAX_BYTES);
+                    case ENCODING_OPTION -> encoding = TokenEncoding.fromValue(hasValue ? args[++i] : "");
+                    case PREFIX_OPTION -> prefix = hasValue ? args[++i] : "";
+                    case CHECKSUM_OPTION -> checksum = true;
+                    default -> throw new PasswordGenerationException("Unknown token option: " + args[i]);
+                }
+            }
+
+            TokenGenerator generator = new TokenGenerator(encoding, bytes, prefix, checksum);
+            info(log, "Generated Token: " + generator.generate(), ASCIColors.GREEN);
+            info(log, String.format("Entropy: %d bits (%s, %d characters)",
+                    generator.entropyBits(), encoding.getValue(), generator.tokenLength()), ASCIColors.YELLOW);
+        } catch (PasswordGenerationException e) {
+            error(log, e.getMessage(), ASCIColors.RED);
+            printUsage();
+        } catch (Exception e) {
+            error(log, "Internal Server Error: " + e.getMessage(), ASCIColors.RED);
+        }
+    }
+
+    /**
+     * Streams many passwords to a file or the standard output, bypassing the logger.
+     *
+     * @param args CLI arguments, {@code [length] --count <n> [--out <file>|-] [--format plain|csv|ndjson]
+     *             [--fixture-seed <seed> [--from <index>]]}
+     */
+    private void runExport(String[] args) {
+        int length = passwordService.getDefaultLength();
+        long count = 0;
+        Long fixtureSeed = null;
+        long fromIndex = 0;
+        boolean unique = false;
+        String uniqueFile = null;
+        String target = PasswordExporter.STDOUT;
+        OutputFormat format = OutputFormat.PLAIN;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                boolean hasValue = i + 1 < args.length;
+                switch (args[i]) {
+                    case COUNT_OPTION -> count = hasValue ? parseCount(args[++i]) : 0;
+                    case OUT_OPTION -> target = hasValue ? args[++i] : "";
+                    case FORMAT_OPTION -> format = OutputFormat.fromValue(hasValue ? args[++i] : "");
+                    case FIXTURE_SEED_OPTION -> fixtureSeed = parseLong(hasValue ? args[++i] : "",
+                            "Invalid fixture seed. The seed must be a numeric value.");
+                    case FROM_OPTION -> fromIndex = parseLong(hasValue ? args[++i] : "",
+                            "Invalid fixture index. The index must be a numeric value.");
+                    case UNIQUE_OPTION -> unique = true;
+                    case UNIQUE_FILE_OPTION -> {
+                        unique = true;
+                        uniqueFile = hasValue ? args[++i] : "";
+                    }
+                    default -> {
+                        if (i != 0 || !isNumeric(args[i])) {
+                            throw new PasswordGenerationException("Invalid argument: " + args[i] + ".");
+                        }
+                        length = Integer.parseInt(args[i]);
+                    }
+                }
+            }
+            if (count < 1) {
+                throw new PasswordGenerationException("Invalid count. The count must be a positive number.");
+            }
+            if (fromIndex != 0 && fixtureSeed == null) {
+                throw new PasswordGenerationException("The --from option requires --fixture-seed.");
+            }
+            if (unique && fixtureSeed != null) {
+                throw new PasswordGenerationException("Fixture passwords are deterministic and cannot be made unique.");
+            }
+            if (uniqueFile != null && uniqueFile.isBlank()) {
+                throw new PasswordGenerationException("The --unique-file option expects a file.");
+            }
+            if (length < PasswordSizeNumbers.MIN_LENGTH.getValue() || length > PasswordSizeNumbers.MAX_LENGTH.getValue()) {
+                throw new PasswordGenerationException(String.format("Invalid length: %d. Allowed range is [%d-%d].",
+                        length, PasswordSizeNumbers.MIN_LENGTH.getValue(), PasswordSizeNumbers.MAX_LENGTH.getValue()));
+            }
+        } catch (PasswordGenerationException e) {
+            error(log, e.getMessage(), ASCIColors.RED);
+            printUsage();
+            return;
+        }
+
+        try {
+            String destination = PasswordExporter.STDOUT.equals(target) ? "standard output" : target;
+            PasswordExporter exporter = new PasswordExporter(passwordService);
+            ExportReportDTO report;
+            if (fixtureSeed != null) {
+                warning(log, "Fixture mode: passwords are derived from the seed and are NOT secret.", ASCIColors.YELLOW);
+                report = exporter.exportFixture(target, new FixturePasswordGenerator(fixtureSeed), fromIndex,
+                        length, count, format);
+            } else if (unique) {
+                try (FingerprintSet fingerprints = uniqueFile != null
+                        ? FingerprintSet.open(Path.of(uniqueFile), Math.max(count, UNIQUE_FILE_ENTRIES))
+                        : FingerprintSet.create(count)) {
+                    if (fingerprints.capacity() - fingerprints.size() < count) {
+                        throw new PasswordGenerationException(String.format(
+                                "The fingerprint file has room for %,d more passwords, %,d requested.",
+                                fingerprints.capacity() - fingerprints.size(), count));
+                    }
+                    report = exporter.export(target, length, count, format, fingerprints);
+                    long issued = fingerprints.size();
+                    info(log, () -> String.format("Unique mode: %,d passwords replaced, %,d of %,d fingerprints used.",
+                            report.replaced(), issued, fingerprints.capacity()), ASCIColors.YELLOW);
+                }
+            } else {
+                report = exporter.export(target, length, count, format);
+            }
+            info(log, () -> String.format("Wrote %,d passwords (%.1f MB) to %s in %.2f s: %,.0f passwords/s",
+                    report.count(), report.bytes() / (1024d * 1024d), destination, report.elapsedNanos() / 1e9,
+                    report.passwordsPerSecond()), ASCIColors.GREEN);
+        } catch (PasswordGenerationException e) {
+            error(log, e.getMessage(), ASCIColors.RED);
+        } catch (Exception e) {
+            error(log, "Internal Server Error: " + e.getMessage(), ASCIColors.RED);
+        }
+    }
+
+    /**
+     * Reports how parallel password generation scales from one thread up to every processor.
+     *
+     * @param args CLI arguments, {@code --scaling <count> [--length n]}
+     */
+    private void runScaling(String[] args) {
+        int length = passwordService.getDefaultLength();
+        long count;
+        try {
+            if (args.length < 2) {
+                throw new PasswordGenerationException("Invalid arguments. The scaling report expects a password count.");
+            }
+            count = parseLong(args[1], "Invalid count. The count must be a numeric value.");
+            for (int i = 2; i < args.length; i += 2) {
+                String option = args[i];
+                String value = i + 1 < args.length ? args[i + 1] : "";
+                if (!LENGTH_OPTION.equals(option)) {
+                    throw new PasswordGenerationException("Invalid argument: " + option + ".");
+                }
+                length = parseInt(value, "Invalid value for " + option + ". A number is expected.", "length",
+                        PasswordSizeNumbers.MIN_LENGTH.getValue(), PasswordSizeNumbers.MAX_LENGTH.getValue());
+            }
+            if (count < 1 || count > Integer.MAX_VALUE) {
+                throw new PasswordGenerationException("Invalid count. The count must be a positive number.");
+            }
+        } catch (PasswordGenerationException e) {
+            error(log, e.getMessage(), ASCIColors.RED);
+            printUsage();
+            return;
+        }
+
+        try {
+            printScaling(passwordService.measureParallelScaling(length, (int) count), "passwords");
+        } catch (PasswordGenerationException e) {
+            error(log, e.getMessage(), ASCIColors.RED);
+        } catch (Exception e) {
+            error(log, "Internal Server Error: " + e.getMessage(), ASCIColors.RED);
+        }
+    }
+
+    /**
+     * Prints the throughput, speedup and parallel efficiency of every scaling sample.
+     *
+     * @param samples samples in increasing thread order, the first being the baseline
+     * @param unit    name of the items counted
+     */
+    private void printScaling(List<ThroughputSampleDTO> samples, String unit) {
+        ThroughputSampleDTO baseline = samples.get(0);
+        for (ThroughputSampleDTO sample : samples) {
+            info(log, () -> String.format("%3d threads: %,10.1f %s/s  speedup %.2fx  efficiency %3.0f%%",
+                    sample.threads(), sample.passwordsPerSecond(), unit, sample.speedupOver(baseline),
+                    100 * sample.speedupOver(baseline) / sample.threads()), ASCIColors.YELLOW);
+        }
+    }
+
+    /**
+     * Generates and PBKDF2-hashes credentials into a file, or reports how provisioning scales.
+     *
+     * @param args CLI arguments, {@code --provision <file> <count> [options]} or
+     *             {@code --provision-scaling <count> [options]}
+     */
+    private void runProvision(String[] args) {
+        boolean scaling = PROVISION_SCALING_OPTION.equals(args[0]);
+        int positional = scaling ? 2 : 3;
+        int length = passwordService.getDefaultLength();
+        int iterations = ProvisioningPipeline.DEFAULT_ITERATIONS;
+        int saltBytes = ProvisioningPipeline.DEFAULT_SALT_BYTES;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long count;
+        try {
+            if (args.length < positional) {
+                throw new PasswordGenerationException(scaling
+                        ? "Invalid arguments. The scaling report expects a credential count."
+                        : "Invalid arguments. Expected an output file and a credential count.");
+            }
+            count = parseLong(args[positional - 1], "Invalid count. The count must be a numeric value.");
+            for (int i = positional; i < args.length; i += 2) {
+                String option = args[i];
+                String value = i + 1 < args.length ? args[i + 1] : "";
+                String message = "Invalid value for " + option + ". A number is expected.";
+                switch (option) {
+                    case LENGTH_OPTION -> length = parseInt(value, message, "length",
+                            PasswordSizeNumbers.MIN_LENGTH.getValue(), PasswordSizeNumbers.MAX_LENGTH.getValue());
+                    case ITERATIONS_OPTION -> iterations = parseInt(value, message, "iteration count",
+                            ProvisioningPipeline.MIN_ITERATIONS, Integer.MAX_VALUE);
+                    case SALT_BYTES_OPTION -> saltBytes = parseInt(value, message, "salt size",
+                            ProvisioningPipeline.MIN_SALT_BYTES, ProvisioningPipeline.MAX_SALT_BYTES);
+                    case THREADS_OPTION -> threads = parseInt(value, message, "thread count", 1, MAX_THREADS);
+                    default -> throw new PasswordGenerationException("Invalid argument: " + option + ".");
+                }
+            }
+            if (count < 1 || (scaling && count > Integer.MAX_VALUE)) {
+                throw new PasswordGenerationException("Invalid count. The count must be a positive number.");
+            }
+        } catch (PasswordGenerationException e) {
+            error(log, e.getMessage(), ASCIColors.RED);
+            printUsage();
+            return;
+        }
+
+        try {
+            ProvisioningPipeline pipeline = new ProvisioningPipeline(passwordService, iterations, saltBytes);
+            if (scaling) {
+                printScaling(pipeline.measureScaling(length, (int) count), "credentials");
+                return;
+            }
+            ProvisioningReportDTO report = pipeline.provision(Path.of(args[1]), length, count, threads);
+            info(log, () -> String.format("Provisioned %,d credentials to %s with %d threads in %.2f s: %,.1f credentials/s",
+                    report.count(), args[1], report.threads(), report.elapsedNanos() / 1e9,
+                    report.recordsPerSecond()), ASCIColors.GREEN);
+        } catch (PasswordGenerationException e) {
+            error(log, e.getMessage(), ASCIColors.RED);
+        } catch (Exception e) {
+            error(log, "Internal Server Error: " + e.getMessage(), ASCIColors.RED);
+        }
+    }
+
+    /**
+     * Parses a numeric option value.
+     *
+     * @param value   raw value
+     * @param message error message if it is not numeric
+     * @return parsed value
+     */
+    private static long parseLong(String value, String message) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new PasswordGenerationException(message);
+        }
+    }
+
+    /**
+     * Parses a numeric option value and checks its range before narrowing it to an int.
+     *
+     * @param value   raw value
+     * @param message error message if it is not numeric
+     * @param name    name of the value in the range error
+     * @param min     smallest allowed value
+     * @param max     largest allowed value
+     * @return parsed value
+     */
+    private static int parseInt(String value, String message, String name, int min, int max) {
+        long parsed = parseLong(value, message);
+        if (parsed < min || parsed > max) {
+            throw new PasswordGenerationException(String.format(
+                    "Invalid %s: %d. Allowed range is [%d-%d].", name, parsed, min, max));
+        }
+        return (int) parsed;
+    }
+
+    /**
+     * Parses the {@code --count} value.
+     *
+     * @param value raw value
+     * @return count, or 0 if it is not a number
+     */
+    private static long parseCount(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
     /**
      * Validates and parses the password length from arguments.
      *
@@ -106,11 +752,7 @@ public class CLIRunner {
      * Prints the CLI header.
      */
     private void printHeader() {
-        info(log, """
-                =========================================
-                ||      Strong Password Generator      ||
-                =========================================
-                """, ASCIColors.PURPLE);
+        info(log, HEADER, ASCIColors.PURPLE);
     }
 
     /**
@@ -121,10 +763,47 @@ public class CLIRunner {
                         Usage: java Main [length]
                          - [length] must be a number between %d and %d.
                          - If no argument is provided, default length of %d is used.
+                        Usage: java Main --interactive
+                         - Rates each line typed on the standard input, updating the strength keystroke by keystroke.
+                        Usage: java Main --long <length>
+                         - Generates one secret of %d to %d characters; characters may repeat.
+                        Usage: java Main --token [--bytes n] [--encoding hex|base32|base64url] [--prefix p] [--checksum]
+                         - Encodes n random bytes (default %d) as an API token, optionally as <prefix><body>_<crc32>.
+                        Usage: java Main [length] --count <n> [--out <file>|-] [--format plain|csv|ndjson]
+                         - Streams <n> passwords to <file> or, by default, the standard output.
+                         - csv and ndjson records include the strength of each password.
+                         - --unique or --unique-file <file> never repeats a password; the file carries the
+                           fingerprints of issued passwords across runs (16 MB per million; a new file holds
+                           at least one million).
+                         - --fixture-seed <seed> [--from <index>] writes reproducible, NON-SECRET test passwords
+                           for indices <index>..<index>+<n>-1 instead.
+                        Usage: java Main --scaling <count> [--length n]
+                         - Reports parallel generation throughput from one thread up to every processor.
+                        Usage: java Main --provision <file> <count> [--length n] [--iterations n] [--salt-bytes n] [--threads n]
+                         - Writes <count> id,password,salt,hash CSV records, hashed with PBKDF2WithHmacSHA256
+                           (default %d iterations, %d-byte salts).
+                        Usage: java Main --provision-scaling <count> [--length n] [--iterations n] [--salt-bytes n]
+                         - Reports provisioning throughput from one thread up to every processor.
+                        Usage: java Main --audit <file>
+                         - Evaluates every line of <file> and prints a strength histogram.
+                        Usage: java Main --build-breach-index <dump> <index>
+                         - Compiles a breach dump into an index; set PASSWORD_BREACH_INDEX=<index> to use it.
+                        Usage: java Main --serve [port] [--bind <address>]
+                         - Serves GET /generate?length=&count= and POST /evaluate over HTTP (default port %d),
+                           on the loopback interface unless --bind names another address.
+                        Usage: java Main --daemon
+                         - Keeps a warmed-up generator resident on a Unix domain socket (PASSWORD_DAEMON_SOCKET);
+                           later [length] invocations are answered by it while it runs.
                         """,
                 PasswordSizeNumbers.MIN_LENGTH.getValue(),
                 PasswordSizeNumbers.MAX_LENGTH.getValue(),
-                PasswordSizeNumbers.DEFAULT_LENGTH.getValue()
+                PasswordSizeNumbers.DEFAULT_LENGTH.getValue(),
+                PasswordSizeNumbers.LONG_MIN_LENGTH.getValue(),
+                PasswordSizeNumbers.LONG_MAX_LENGTH.getValue(),
+                TokenGenerator.DEFAULT_BYTES,
+                ProvisioningPipeline.DEFAULT_ITERATIONS,
+                ProvisioningPipeline.DEFAULT_SALT_BYTES,
+                DEFAULT_PORT
         ));
     }
 }
@@ -0,0 +1,111 @@
+package gr.marou.password_generator.cli;
+
+import gr.marou.password_generator.model.enums.ASCIColors;
+import gr.marou.password_generator.model.enums.PasswordSizeNumbers;
+import gr.marou.password_generator.model.enums.StrengthLevel;
+import gr.marou.password_generator.server.DaemonProtocol;
+
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+
+/**
+ * Thin client forwarding plain {@code [length]} invocations to a running
+ * {@link gr.marou.password_generator.server.PasswordDaemon}.
+ * <p>
+ * It prints the same lines as the in-process CLI, written straight to the console stream the
+ * logger would use, so no logging or generation classes are initialized on this path. A socket or
+ * socket directory not owned by the current user, a daemon running as another user, or a malformed
+ * response is ignored and the password is generated in-process.
+ */
+public final class DaemonClient {
+
+    /** Private constructor to prevent instantiation. */
+    private DaemonClient() {}
+
+    /**
+     * Forwards the invocation to the daemon if the arguments are a plain, valid length request and
+     * a daemon is listening.
+     *
+     * @param args command-line arguments
+     * @return true if the daemon handled the invocation, false to run in-process
+     */
+    public static boolean forward(String[] args) {
+        int length;
+        if (args.length == 0) {
+            length = 0;
+        } else if (args.length == 1) {
+            try {
+                length = Integer.parseInt(args[0]);
+            } catch (NumberFormatException e) {
+                return false;
+            }
+            if (length < PasswordSizeNumbers.MIN_LENGTH.getValue() || length > PasswordSizeNumbers.MAX_LENGTH.getValue()) {
+                return false;
+            }
+        } else {
+            return false;
+        }
+
+        Path socket = DaemonProtocol.socketPath();
+        if (!Files.exists(socket, LinkOption.NOFOLLOW_LINKS)) {
+            return false;
+        }
+        if (!DaemonProtocol.isTrusted(socket)) {
+            print("Ignoring daemon socket not private to the current user: " + socket, ASCIColors.YELLOW);
+            return false;
+        }
+        try (SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+            channel.connect(UnixDomainSocketAddress.of(socket));
+            if (!DaemonProtocol.isSameUser(channel)) {
+                print("Ignoring daemon running as another user: " + socket, ASCIColors.YELLOW);
+                return false;
+            }
+            DaemonProtocol.writeRequest(channel, length);
+            ByteBuffer header = ByteBuffer.allocate(DaemonProtocol.RESPONSE_HEADER_BYTES);
+            if (!DaemonProtocol.readFully(channel, header)) {
+                return false;
+            }
+            byte status = header.get();
+            int strength = header.get();
+            ByteBuffer payload = ByteBuffer.allocate(Short.toUnsignedInt(header.getShort()));
+            if (!DaemonProtocol.readFully(channel, payload)
+                    || (status == DaemonProtocol.STATUS_OK && (strength < 0 || strength >= StrengthLevel.values().length))) {
+                // Truncated or malformed response; generate in-process instead
+                return false;
+            }
+            String text = StandardCharsets.UTF_8.decode(payload).toString();
+
+            print(CLIRunner.HEADER, ASCIColors.PURPLE);
+            if (status != DaemonProtocol.STATUS_OK) {
+                print(text, ASCIColors.RED);
+                return true;
+            }
+            print(length == 0 ? "Using default length: " + text.length() : "Using argument length: " + length,
+                    ASCIColors.YELLOW);
+            StrengthLevel level = StrengthLevel.values()[strength];
+            print("Generated Password: " + text, ASCIColors.GREEN);
+            print("Password Strength: " + level.getValue(), StrengthLevel.getStrengthColor(level));
+            return true;
+        } catch (IOException e) {
+            // No daemon behind the socket file; generate in-process instead
+            return false;
+        }
+    }
+
+    /**
+     * Prints a colored line the way the configured console logger does.
+     *
+     * @param message message
+     * @param color   ANSI color
+     */
+    private static void print(String message, ASCIColors color) {
+        System.err.print(color + message + ASCIColors.RESET + System.lineSeparator());
+    }
+}
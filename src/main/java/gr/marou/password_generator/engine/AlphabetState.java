@@ -0,0 +1,125 @@
+package gr.marou.password_generator.engine;
+
+import gr.marou.password_generator.exception.PasswordGenerationException;
+import gr.marou.password_generator.model.enums.FailureCause;
+import gr.marou.password_generator.random.RandomSource;
+
+import java.util.Arrays;
+
+/**
+ * Mutable per-password selection state over a {@link CompiledAlphabet}.
+ * <p>
+ * Each group keeps a working copy of its characters; used characters are tracked in a bitmask
+ * and are swapped out of a group lazily, the first time they are drawn from it. Every stale entry
+ * is removed at most once per password, so picking an unused character costs amortized O(1).
+ * The pick stays uniform over the group entries that are not used, exactly like filtering the
+ * group first. Not thread-safe; reuse one instance per thread.
+ */
+public final class AlphabetState {
+
+    /** The alphabet this state selects from. */
+    private final CompiledAlphabet alphabet;
+    /** Working copy of each group; entries beyond {@link #sizes} have been removed. */
+    private final char[][] pools;
+    /** Number of live entries in each pool. */
+    private final int[] sizes;
+    /** Bitmask of characters already used in the current password. */
+    private final long[] used;
+    /** Used characters drawn and discarded since the last {@link #drainRejections()}. */
+    private long rejections;
+
+    /**
+     * Creates a state for the given alphabet.
+     *
+     * @param alphabet compiled alphabet
+     */
+    AlphabetState(CompiledAlphabet alphabet) {
+        this.alphabet = alphabet;
+        this.pools = new char[alphabet.groups.length][];
+        for (int i = 0; i < pools.length; i++) {
+            pools[i] = alphabet.groups[i].clone();
+        }
+        this.sizes = new int[pools.length];
+        this.used = new long[alphabet.bitmaskWords];
+        reset();
+    }
+
+    /**
+     * Restores every group and clears the used characters before the next password.
+     */
+    public void reset() {
+        for (int i = 0; i < pools.length; i++) {
+            char[] group = alphabet.groups[i];
+            System.arraycopy(group, 0, pools[i], 0, group.length);
+            sizes[i] = group.length;
+        }
+        Arrays.fill(used, 0L);
+    }
+
+    /**
+     * Returns a random character from the group that has not been marked as used.
+     *
+     * @param group  group index
+     * @param random random source
+     * @return unique character
+     */
+    public char pick(int group, RandomSource random) {
+        char[] pool = pools[group];
+        int size = sizes[group];
+        while (size > 0) {
+            int index = random.nextInt(size);
+            char c = pool[index];
+            if (!isUsed(c)) {
+                sizes[group] = size;
+                return c;
+            }
+            // Stale entry: swap it past the live range so it is never drawn again
+            rejections++;
+            size--;
+            pool[index] = pool[size];
+            pool[size] = c;
+        }
+        sizes[group] = 0;
+        throw new PasswordGenerationException("No unique characters left in group.", FailureCause.CHARACTERS_EXHAUSTED);
+    }
+
+    /**
+     * Gets and clears the number of used characters drawn and discarded by {@link #pick}.
+     *
+     * @return rejections since the previous call
+     */
+    public long drainRejections() {
+        long drained = rejections;
+        rejections = 0;
+        return drained;
+    }
+
+    /**
+     * Gets the number of character groups.
+     *
+     * @return group count
+     */
+    public int groupCount() {
+        return pools.length;
+    }
+
+    /**
+     * Marks a character as used in the current password.
+     *
+     * @param c character
+     */
+    public void markUsed(char c) {
+        used[c >>> 6] |= 1L << c;
+    }
+
+    /**
+     * Checks whether a character has been used in the current password.
+     *
+     * @param c character
+     * @return true if used
+     */
+    public boolean isUsed(char c) {
+        int word = c >>> 6;
+        return word < used.length && (used[word] & (1L << c)) != 0;
+    }
+}
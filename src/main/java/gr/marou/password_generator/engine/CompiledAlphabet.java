@@ -0,0 +1,104 @@
+package gr.marou.password_generator.engine;
+
+import gr.marou.password_generator.exception.PasswordGenerationException;
+
+/**
+ * Immutable, primitive representation of the character groups used for generation.
+ * <p>
+ * Built once per password policy; per-password state lives in {@link AlphabetState}.
+ */
+public final class CompiledAlphabet {
+
+    /** Characters of each group, in rotation order. */
+    final char[][] groups;
+    /** Number of 64-bit words needed for a bitmask over every character of the alphabet. */
+    final int bitmaskWords;
+    /** Number of distinct characters across all groups. */
+    private final int uniqueCount;
+
+    /**
+     * Creates the compiled alphabet.
+     *
+     * @param groups character groups
+     */
+    private CompiledAlphabet(char[][] groups) {
+        this.groups = groups;
+        int maxChar = 0;
+        for (char[] group : groups) {
+            for (char c : group) {
+                maxChar = Math.max(maxChar, c);
+            }
+        }
+        this.bitmaskWords = (maxChar >>> 6) + 1;
+
+        long[] seen = new long[bitmaskWords];
+        int unique = 0;
+        for (char[] group : groups) {
+            for (char c : group) {
+                long bit = 1L << c;
+                if ((seen[c >>> 6] & bit) == 0) {
+                    seen[c >>> 6] |= bit;
+                    unique++;
+                }
+            }
+        }
+        this.uniqueCount = unique;
+    }
+
+    /**
+     * Compiles the given character groups.
+     *
+     * @param groups character groups in rotation order, each non-empty
+     * @return compiled alphabet
+     */
+    public static CompiledAlphabet of(char[]... groups) {
+        if (groups == null || groups.length == 0) {
+            throw new PasswordGenerationException("At least one character group is required.");
+        }
+        char[][] copy = new char[groups.length][];
+        for (int i = 0; i < groups.length; i++) {
+            if (groups[i] == null || groups[i].length == 0) {
+                throw new PasswordGenerationException("Character groups must not be empty.");
+            }
+            copy[i] = groups[i].clone();
+        }
+        return new CompiledAlphabet(copy);
+    }
+
+    /**
+     * Gets the number of character groups.
+     *
+     * @return group count
+     */
+    public int groupCount() {
+        return groups.length;
+    }
+
+    /**
+     * Gets the size of a character group.
+     *
+     * @param group group index
+     * @return number of characters in the group
+     */
+    public int groupSize(int group) {
+        return groups[group].length;
+    }
+
+    /**
+     * Gets the number of distinct characters across all groups.
+     *
+     * @return unique character count
+     */
+    public int uniqueCount() {
+        return uniqueCount;
+    }
+
+    /**
+     * Creates a fresh mutable selection state over this alphabet.
+     *
+     * @return new alphabet state
+     */
+    public AlphabetState newState() {
+        return new AlphabetState(this);
+    }
+}
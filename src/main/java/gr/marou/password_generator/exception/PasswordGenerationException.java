@@ -1,26 +1,52 @@
 package gr.marou.password_generator.exception;
 
+import gr.marou.password_generator.model.enums.FailureCause;
+
 /**
  * Thrown when password generation fails due to invalid input or constraints.
  */
 public class PasswordGenerationException extends RuntimeException{
 
+    /** Classification of the failure, used for metrics. */
+    private final FailureCause failureCause;
+
     /**
-     * Creates a new exception with a message.
+     * Creates a new exception with a message, classified as invalid input.
      *
      * @param message Error message
      */
     public PasswordGenerationException(String message) {
+        this(message, FailureCause.INVALID_INPUT);
+    }
+
+    /**
+     * Creates a new exception with a message and a failure classification.
+     *
+     * @param message      Error message
+     * @param failureCause Classification of the failure
+     */
+    public PasswordGenerationException(String message, FailureCause failureCause) {
         super(message);
+        this.failureCause = failureCause;
     }
 
     /**
-     * Creates a new exception with a message and cause.
+     * Creates a new exception with a message and cause, classified as an internal failure.
      *
      * @param message Error message
      * @param cause   Underlying cause
      */
     public PasswordGenerationException(String message, Throwable cause) {
         super(message, cause);
+        this.failureCause = FailureCause.INTERNAL;
+    }
+
+    /**
+     * Gets the classification of the failure.
+     *
+     * @return failure cause
+     */
+    public FailureCause getFailureCause() {
+        return failureCause;
     }
 }
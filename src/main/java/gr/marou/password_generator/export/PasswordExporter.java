@@ -0,0 +1,365 @@
+package gr.marou.password_generator.export;
+
+import gr.marou.password_generator.exception.PasswordGenerationException;
+import gr.marou.password_generator.fixture.FixturePasswordGenerator;
+import gr.marou.password_generator.model.dto.ExportReportDTO;
+import gr.marou.password_generator.model.enums.OutputFormat;
+import gr.marou.password_generator.service.PasswordService;
+import gr.marou.password_generator.util.FingerprintSet;
+import gr.marou.password_generator.util.Utf8Utils;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Streams large numbers of generated passwords to a file or the standard output.
+ * <p>
+ * Passwords are generated in fixed-size batches and encoded straight into one reusable byte
+ * buffer that is written to the channel whenever it fills, so memory use does not grow with the
+ * number of passwords and nothing goes through the logger.
+ * <p>
+ * Passwords come from the {@link PasswordService}, or, for reproducible load-test fixtures only,
+ * from a {@link FixturePasswordGenerator}. With a {@link FingerprintSet}, every password already
+ * issued, in this export or in earlier ones sharing the set, is replaced by a new one.
+ */
+public class PasswordExporter {
+
+    /** Target name writing to the standard output. */
+    public static final String STDOUT = "-";
+    /** Passwords generated per batch. */
+    private static final int BATCH_SIZE = 16_384;
+    /** Size of the write buffer in bytes. */
+    private static final int BUFFER_BYTES = 1 << 20;
+    /** Attempts made to replace a password that was already issued. */
+    private static final int MAX_UNIQUE_ATTEMPTS = 16;
+    /** Largest encoded size of one record beyond its password, in bytes. */
+    private static final int RECORD_OVERHEAD = 64;
+
+    /** Service generating and evaluating the passwords. */
+    private final PasswordService passwordService;
+    /** Number of threads generating each batch. */
+    private final int parallelism;
+
+    /**
+     * Creates an exporter generating on every processor.
+     *
+     * @param passwordService service generating and evaluating the passwords
+     */
+    public PasswordExporter(PasswordService passwordService) {
+        this(passwordService, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates an exporter.
+     *
+     * @param passwordService service generating and evaluating the passwords
+     * @param parallelism     number of threads generating each batch
+     */
+    public PasswordExporter(PasswordService passwordService, int parallelism) {
+        if (passwordService == null) {
+            throw new PasswordGenerationException("Password service must not be null.");
+        }
+        if (parallelism < 1) {
+            throw new PasswordGenerationException("Parallelism must be at least 1.");
+        }
+        this.passwordService = passwordService;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Writes passwords to a file, replacing it, or to the standard output for {@value #STDOUT}.
+     *
+     * @param target file path or {@value #STDOUT}
+     * @param length password length
+     * @param count  number of passwords
+     * @param format line format
+     * @return export summary
+     */
+    public ExportReportDTO export(String target, int length, long count, OutputFormat format) {
+        return export(target, length, count, format, null);
+    }
+
+    /**
+     * Writes passwords that are unique across a fingerprint set to a file, replacing it, or to the
+     * standard output for {@value #STDOUT}.
+     *
+     * @param target file path or {@value #STDOUT}
+     * @param length password length
+     * @param count  number of passwords
+     * @param format line format
+     * @param unique fingerprints of the passwords already issued, or null to skip the check
+     * @return export summary
+     */
+    public ExportReportDTO export(String target, int length, long count, OutputFormat format, FingerprintSet unique) {
+        return export(target, (offset, size) -> generateBatch(length, size), length, count, format, unique);
+    }
+
+    /**
+     * Writes passwords to a channel, which is left open.
+     *
+     * @param channel destination
+     * @param length  password length
+     * @param count   number of passwords
+     * @param format  line format
+     * @return export summary
+     * @throws IOException if the channel cannot be written
+     */
+    public ExportReportDTO export(WritableByteChannel channel, int length, long count, OutputFormat format)
+            throws IOException {
+        return export(channel, (offset, size) -> generateBatch(length, size), length, count, format, null);
+    }
+
+    /**
+     * Writes the deterministic fixture passwords of an index range to a file, replacing it, or to
+     * the standard output for {@value #STDOUT}.
+     *
+     * @param target    file path or {@value #STDOUT}
+     * @param fixture   fixture generator
+     * @param fromIndex first fixture index
+     * @param length    password length
+     * @param count     number of passwords
+     * @param format    line format
+     * @return export summary
+     */
+    public ExportReportDTO exportFixture(String target, FixturePasswordGenerator fixture, long fromIndex,
+                                         int length, long count, OutputFormat format) {
+        if (fixture == null) {
+            throw new PasswordGenerationException("Fixture generator must not be null.");
+        }
+        if (fromIndex < 0 || fromIndex + count < 0) {
+            throw new PasswordGenerationException("Fixture index range must not be negative.");
+        }
+        return export(target, (offset, size) -> fixture.passwords(fromIndex + offset, size, length),
+                length, count, format, null);
+    }
+
+    /**
+     * Opens the target and writes the passwords of a batch source to it.
+     *
+     * @param target file path or {@value #STDOUT}
+     * @param source batch source
+     * @param length password length
+     * @param count  number of passwords
+     * @param format line format
+     * @param unique fingerprints of the passwords already issued, or null
+     * @return export summary
+     */
+    private ExportReportDTO export(String target, BatchSource source, int length, long count, OutputFormat format,
+                                   FingerprintSet unique) {
+        if (target == null || target.isBlank()) {
+            throw new PasswordGenerationException("Output target must not be empty.");
+        }
+        try {
+            if (STDOUT.equals(target)) {
+                // Not closed: the standard output stays usable for the rest of the process
+                return export(Channels.newChannel(new FileOutputStream(FileDescriptor.out)), source, length, count, format, unique);
+            }
+            try (FileChannel channel = FileChannel.open(Path.of(target), StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                return export(channel, source, length, count, format, unique);
+            }
+        } catch (IOException e) {
+            throw new PasswordGenerationException("Could not write passwords to " + target + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Writes the passwords of a batch source to a channel.
+     *
+     * @param channel destination
+     * @param source  batch source
+     * @param length  password length
+     * @param count   number of passwords
+     * @param format  line format
+     * @param unique  fingerprints of the passwords already issued, or null
+     * @return export summary
+     * @throws IOException if the channel cannot be written
+     */
+    private ExportReportDTO export(WritableByteChannel channel, BatchSource source, int length, long count,
+                                   OutputFormat format, FingerprintSet unique) throws IOException {
+        if (count < 1) {
+            throw new PasswordGenerationException("Password count must be at least 1.");
+        }
+        if (format == null) {
+            throw new PasswordGenerationException("Output format must not be null.");
+        }
+
+        long start = System.nanoTime();
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES);
+        long bytes = 0;
+        long replaced = 0;
+        if (format == OutputFormat.CSV) {
+            putAscii(buffer, "password,strength\n");
+        }
+        for (long written = 0; written < count; ) {
+            int batch = (int) Math.min(BATCH_SIZE, count - written);
+            for (String password : source.next(written, batch)) {
+                for (int attempt = 1; unique != null && !unique.add(password); attempt++) {
+                    if (attempt == MAX_UNIQUE_ATTEMPTS) {
+                        throw new PasswordGenerationException(String.format(
+                                "Could not generate an unused password after %d attempts.", attempt));
+                    }
+                    password = passwordService.generatePassword(length);
+                    replaced++;
+                }
+                if (buffer.remaining() < password.length() * 6 + RECORD_OVERHEAD) {
+                    bytes += drain(channel, buffer);
+                }
+                putRecord(buffer, password, format);
+            }
+            written += batch;
+        }
+        bytes += drain(channel, buffer);
+        return new ExportReportDTO(count, bytes, replaced, System.nanoTime() - start);
+    }
+
+    /**
+     * Generates a batch with the password service, in parallel when more than one thread is configured.
+     *
+     * @param length password length
+     * @param size   number of passwords
+     * @return passwords
+     */
+    private List<String> generateBatch(int length, int size) {
+        return parallelism > 1
+                ? passwordService.generatePasswordsParallel(length, size, parallelism).passwords()
+                : passwordService.generatePasswords(length, size).passwords();
+    }
+
+    /**
+     * Encodes one password as a line of the given format.
+     *
+     * @param buffer   destination, with room for the record
+     * @param password password
+     * @param format   line format
+     */
+    private void putRecord(ByteBuffer buffer, String password, OutputFormat format) {
+        switch (format) {
+            case PLAIN -> putUtf8(buffer, password);
+            case CSV -> {
+                putCsvField(buffer, password);
+                buffer.put((byte) ',');
+                putAscii(buffer, passwordService.evaluateStrength(password).getValue());
+            }
+            case NDJSON -> {
+                putAscii(buffer, "{\"password\":\"");
+                putJsonString(buffer, password);
+                putAscii(buffer, "\",\"strength\":\"");
+                putAscii(buffer, passwordService.evaluateStrength(password).getValue());
+                putAscii(buffer, "\"}");
+            }
+        }
+        buffer.put((byte) '\n');
+    }
+
+    /**
+     * Encodes a CSV field, quoting it only if it contains a separator, a quote or a line break.
+     *
+     * @param buffer destination
+     * @param value  field value
+     */
+    private static void putCsvField(ByteBuffer buffer, String value) {
+        boolean quoted = false;
+        for (int i = 0; i < value.length() && !quoted; i++) {
+            char c = value.charAt(i);
+            quoted = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quoted) {
+            putUtf8(buffer, value);
+            return;
+        }
+        buffer.put((byte) '"');
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == '"') {
+                buffer.put((byte) '"');
+            }
+            Utf8Utils.encode(value, i, buffer);
+        }
+        buffer.put((byte) '"');
+    }
+
+    /**
+     * Encodes the contents of a JSON string, escaping quotes, backslashes and control characters.
+     *
+     * @param buffer destination
+     * @param value  string value
+     */
+    private static void putJsonString(ByteBuffer buffer, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                buffer.put((byte) '\\').put((byte) c);
+            } else if (c < 0x20) {
+                putAscii(buffer, String.format("\\u%04x", (int) c));
+            } else {
+                Utf8Utils.encode(value, i, buffer);
+            }
+        }
+    }
+
+    /**
+     * Encodes a string as UTF-8.
+     *
+     * @param buffer destination
+     * @param value  string value
+     */
+    private static void putUtf8(ByteBuffer buffer, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            Utf8Utils.encode(value, i, buffer);
+        }
+    }
+
+    /**
+     * Copies an ASCII string.
+     *
+     * @param buffer destination
+     * @param value  ASCII text
+     */
+    private static void putAscii(ByteBuffer buffer, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            buffer.put((byte) value.charAt(i));
+        }
+    }
+
+    /**
+     * Writes the buffered bytes to the channel and clears the buffer.
+     *
+     * @param channel destination
+     * @param buffer  filled buffer
+     * @return number of bytes written
+     * @throws IOException if the channel cannot be written
+     */
+    private static int drain(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        int bytes = buffer.remaining();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+        return bytes;
+    }
+
+    /**
+     * Supplies the passwords of consecutive batches.
+     */
+    @FunctionalInterface
+    private interface BatchSource {
+
+        /**
+         * Produces a batch.
+         *
+         * @param offset number of passwords produced before this batch
+         * @param size   number of passwords
+         * @return passwords
+         */
+        List<String> next(long offset, int size);
+    }
+}
@@ -0,0 +1,140 @@
+package gr.marou.password_generator.fixture;
+
+import gr.marou.password_generator.engine.AlphabetState;
+import gr.marou.password_generator.exception.PasswordGenerationException;
+import gr.marou.password_generator.policy.PasswordPolicy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic password generator for load-test fixtures: the password of a given
+ * {@code (seed, index, length)} is the same on every run and machine.
+ * <p>
+ * <b>For synthetic test data only.</b> The passwords come from a {@link SplitMix64Source}, so
+ * anyone who knows the seed knows every password. This generator deliberately does not implement
+ * {@link gr.marou.password_generator.service.PasswordService} and shares no random source with it,
+ * so it cannot be wired into the secure production path by accident.
+ * <p>
+ * Every index has its own random stream, so any index costs O(length) to compute regardless of
+ * its position, and shards of a fixture can be generated independently. Passwords follow the same
+ * rules as the production generator under the given policy; they stay reproducible as long as the
+ * policy's groups and their order do not change. Not thread-safe; use one instance per thread.
+ */
+public final class FixturePasswordGenerator {
+
+    /** Fixture seed. */
+    private final long seed;
+    /** Generation policy. */
+    private final PasswordPolicy policy;
+    /** Per-index random stream. */
+    private final SplitMix64Source random;
+    /** Characters already used in the current password. */
+    private final AlphabetState alphabetState;
+
+    /**
+     * Creates a generator over the default policy.
+     *
+     * @param seed fixture seed
+     */
+    public FixturePasswordGenerator(long seed) {
+        this(seed, PasswordPolicy.defaultPolicy());
+    }
+
+    /**
+     * Creates a generator over a policy.
+     *
+     * @param seed   fixture seed
+     * @param policy generation policy
+     */
+    public FixturePasswordGenerator(long seed, PasswordPolicy policy) {
+        if (policy == null) {
+            throw new PasswordGenerationException("Password policy must not be null.");
+        }
+        this.seed = seed;
+        this.policy = policy;
+        this.random = new SplitMix64Source(seed);
+        this.alphabetState = policy.alphabet().newState();
+    }
+
+    /**
+     * Gets the fixture seed.
+     *
+     * @return seed
+     */
+    public long seed() {
+        return seed;
+    }
+
+    /**
+     * Computes the password at an index.
+     *
+     * @param index  fixture index, non-negative
+     * @param length password length
+     * @return password
+     */
+    public String password(long index, int length) {
+        policy.checkLength(length);
+        if (index < 0) {
+            throw new PasswordGenerationException("Fixture index must not be negative.");
+        }
+        char[] chars = new char[length];
+        fill(index, chars, length);
+        return new String(chars);
+    }
+
+    /**
+     * Computes the passwords of a contiguous index range.
+     *
+     * @param fromIndex first index, non-negative
+     * @param count     number of passwords
+     * @param length    password length
+     * @return passwords in index order
+     */
+    public List<String> passwords(long fromIndex, int count, int length) {
+        policy.checkLength(length);
+        if (fromIndex < 0 || count < 0 || fromIndex + count < 0) {
+            throw new PasswordGenerationException("Fixture index range must not be negative.");
+        }
+        char[] chars = new char[length];
+        List<String> passwords = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            fill(fromIndex + i, chars, length);
+            passwords.add(new String(chars));
+        }
+        return passwords;
+    }
+
+    /**
+     * Generates the password of an index into a buffer, the same way the production generator does.
+     *
+     * @param index  fixture index
+     * @param chars  destination, at least {@code length} long
+     * @param length password length, already validated
+     */
+    private void fill(long index, char[] chars, int length) {
+        random.reset(seed, index);
+        alphabetState.reset();
+        int size = 0;
+        int groups = alphabetState.groupCount();
+        for (int group = 0; group < groups; group++) {
+            for (int i = policy.minimum(group); i > 0; i--) {
+                char c = alphabetState.pick(group, random);
+                chars[size++] = c;
+                alphabetState.markUsed(c);
+            }
+        }
+        for (int group = 0; size < length; group = (group + 1) % groups) {
+            char c = alphabetState.pick(group, random);
+            chars[size++] = c;
+            alphabetState.markUsed(c);
+        }
+        for (int i = length; i > 1; i--) {
+            int j = random.nextInt(i);
+            char tmp = chars[i - 1];
+            chars[i - 1] = chars[j];
+            chars[j] = tmp;
+        }
+        alphabetState.drainRejections();
+    }
+}
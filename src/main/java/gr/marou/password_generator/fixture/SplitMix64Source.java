@@ -0,0 +1,82 @@
+package gr.marou.password_generator.fixture;
+
+import gr.marou.password_generator.exception.PasswordGenerationException;
+import gr.marou.password_generator.random.RandomSource;
+
+/**
+ * SplitMix64 pseudo-random source for reproducible fixtures. <b>Not cryptographically secure</b>:
+ * its whole output follows from a 64-bit state, so it must never back real credentials.
+ * <p>
+ * The stream of index {@code i} under a seed is positioned directly by {@link #reset(long, long)},
+ * without stepping through the streams of the indices before it. Bounded values use Lemire's
+ * multiply-and-reject method, so every result is equally likely. Not thread-safe.
+ */
+public final class SplitMix64Source implements RandomSource {
+
+    /** Golden-ratio increment of the SplitMix64 sequence. */
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    /** Current position in the sequence. */
+    private long state;
+
+    /**
+     * Creates a source positioned at the start of the stream of index 0 of the seed.
+     *
+     * @param seed fixture seed
+     */
+    public SplitMix64Source(long seed) {
+        reset(seed, 0);
+    }
+
+    /**
+     * Positions the source at the start of the stream of an index, in O(1).
+     *
+     * @param seed  fixture seed
+     * @param index stream index
+     */
+    public void reset(long seed, long index) {
+        // Two mixing rounds keep nearby seeds and nearby indices from yielding related states
+        state = mix64(mix64(seed) + (index + 1) * GOLDEN_GAMMA);
+    }
+
+    /**
+     * Returns the next 64 random bits.
+     *
+     * @return random value
+     */
+    public long nextLong() {
+        return mix64(state += GOLDEN_GAMMA);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new PasswordGenerationException("Bound must be positive.");
+        }
+        long product = (nextLong() >>> 32) * bound;
+        long low = product & 0xFFFFFFFFL;
+        if (low < bound) {
+            long threshold = (0x1_0000_0000L - bound) % bound;
+            while (low < threshold) {
+                product = (nextLong() >>> 32) * bound;
+                low = product & 0xFFFFFFFFL;
+            }
+        }
+        return (int) (product >>> 32);
+    }
+
+    /**
+     * Stafford variant 13 finalizer used by SplitMix64.
+     *
+     * @param z input bits
+     * @return mixed bits
+     */
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
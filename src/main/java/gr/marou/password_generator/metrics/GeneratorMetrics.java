@@ -0,0 +1,310 @@
+package gr.marou.password_generator.metrics;
+
+import gr.marou.password_generator.exception.PasswordGenerationException;
+import gr.marou.password_generator.model.enums.FailureCause;
+import gr.marou.password_generator.model.enums.StrengthLevel;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process-wide counters and latency histograms of the generation hot path.
+ * <p>
+ * Every counter is a {@link LongAdder} and every histogram a {@link LatencyHistogram}, so
+ * recording never locks or allocates. Callers check {@link #isEnabled()} first and skip timing
+ * entirely when collection is off. Collection starts off unless the {@value #ENABLED_PROPERTY}
+ * system property is true; {@link #register()} exposes the metrics over JMX and turns collection
+ * on unless that property is explicitly false.
+ */
+public final class GeneratorMetrics implements GeneratorMetricsMXBean {
+
+    /** Object name of the registered MXBean. */
+    public static final String OBJECT_NAME = "gr.marou.password_generator:type=GeneratorMetrics";
+    /** System property turning metric collection on or off. */
+    public static final String ENABLED_PROPERTY = "password.metrics";
+
+    /** Process-wide instance. */
+    private static final GeneratorMetrics INSTANCE = new GeneratorMetrics();
+    /** Shortest interval over which the generation rate is computed. */
+    private static final long RATE_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /** Whether metrics are being collected. */
+    private volatile boolean enabled = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    /** Issued passwords. */
+    private final LongAdder generations = new LongAdder();
+    /** Latency of issuing one password, retries included. */
+    private final LatencyHistogram generationLatency = new LatencyHistogram();
+    /** Strength evaluations. */
+    private final LongAdder evaluations = new LongAdder();
+    /** Latency of one strength evaluation. */
+    private final LatencyHistogram evaluationLatency = new LatencyHistogram();
+    /** Characters picked from the groups. */
+    private final LongAdder characterPicks = new LongAdder();
+    /** Used characters drawn and discarded while picking. */
+    private final LongAdder pickRejections = new LongAdder();
+    /** Passwords regenerated because they were breached. */
+    private final LongAdder breachRejections = new LongAdder();
+    /** Failures, indexed by {@link FailureCause} ordinal. */
+    private final LongAdder[] failures = newAdders(FailureCause.values().length);
+    /** Issued passwords, indexed by {@link StrengthLevel} ordinal. */
+    private final LongAdder[] strengths = newAdders(StrengthLevel.values().length);
+
+    /** Time of the last rate computation. */
+    private long rateNanos = System.nanoTime();
+    /** Generation count at the last rate computation. */
+    private long rateCount;
+    /** Last computed rate. */
+    private double rate;
+
+    /** Use {@link #get()}. */
+    private GeneratorMetrics() {}
+
+    /**
+     * Gets the process-wide metrics.
+     *
+     * @return metrics instance
+     */
+    public static GeneratorMetrics get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Registers the metrics on the platform MBean server, once per process, and turns collection on
+     * unless the {@value #ENABLED_PROPERTY} property is explicitly false.
+     */
+    public void register() {
+        if (!"false".equalsIgnoreCase(System.getProperty(ENABLED_PROPERTY))) {
+            enabled = true;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+        } catch (InstanceAlreadyExistsException e) {
+            // Already registered by an earlier call
+        } catch (JMException e) {
+            throw new PasswordGenerationException("Could not register " + OBJECT_NAME, e);
+        }
+    }
+
+    /**
+     * Records an issued password.
+     *
+     * @param nanos            time taken, retries included
+     * @param picks            characters picked, rejected attempts included
+     * @param rejectedPicks    used characters drawn and discarded
+     * @param breachRejections attempts rejected as breached
+     * @param strength         strength of the issued password
+     */
+    public void recordGeneration(long nanos, long picks, long rejectedPicks, int breachRejections,
+                                 StrengthLevel strength) {
+        generations.increment();
+        generationLatency.record(nanos);
+        characterPicks.add(picks);
+        if (rejectedPicks != 0) pickRejections.add(rejectedPicks);
+        if (breachRejections != 0) this.breachRejections.add(breachRejections);
+        strengths[strength.ordinal()].increment();
+    }
+
+    /**
+     * Records a strength evaluation.
+     *
+     * @param nanos time taken
+     */
+    public void recordEvaluation(long nanos) {
+        evaluations.increment();
+        evaluationLatency.record(nanos);
+    }
+
+    /**
+     * Records a failed generation.
+     *
+     * @param cause failure classification
+     */
+    public void recordFailure(FailureCause cause) {
+        failures[cause.ordinal()].increment();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getGenerations() {
+        return generations.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized double getGenerationsPerSecond() {
+        long now = System.nanoTime();
+        if (now - rateNanos >= RATE_WINDOW_NANOS) {
+            long count = generations.sum();
+            rate = (count - rateCount) * 1e9 / (now - rateNanos);
+            rateCount = count;
+            rateNanos = now;
+        }
+        return rate;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getGenerationLatencyP50Nanos() {
+        return generationLatency.percentile(0.50);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getGenerationLatencyP99Nanos() {
+        return generationLatency.percentile(0.99);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getGenerationLatencyP999Nanos() {
+        return generationLatency.percentile(0.999);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getEvaluations() {
+        return evaluations.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getEvaluationLatencyP50Nanos() {
+        return evaluationLatency.percentile(0.50);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getEvaluationLatencyP99Nanos() {
+        return evaluationLatency.percentile(0.99);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getEvaluationLatencyP999Nanos() {
+        return evaluationLatency.percentile(0.999);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getCharacterPicks() {
+        return characterPicks.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getPickRejections() {
+        return pickRejections.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getBreachRejections() {
+        return breachRejections.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Long> getFailuresByCause() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (FailureCause cause : FailureCause.values()) {
+            counts.put(cause.name(), failures[cause.ordinal()].sum());
+        }
+        return counts;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Long> getStrengthDistribution() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (StrengthLevel level : StrengthLevel.values()) {
+            counts.put(level.name(), strengths[level.ordinal()].sum());
+        }
+        return counts;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reset() {
+        generations.reset();
+        generationLatency.reset();
+        evaluations.reset();
+        evaluationLatency.reset();
+        characterPicks.reset();
+        pickRejections.reset();
+        breachRejections.reset();
+        for (LongAdder adder : failures) adder.reset();
+        for (LongAdder adder : strengths) adder.reset();
+        synchronized (this) {
+            rateNanos = System.nanoTime();
+            rateCount = 0;
+            rate = 0;
+        }
+    }
+
+    /**
+     * Creates an array of zeroed adders.
+     *
+     * @param size array size
+     * @return adders
+     */
+    private static LongAdder[] newAdders(int size) {
+        LongAdder[] adders = new LongAdder[size];
+        for (int i = 0; i < size; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+}
@@ -0,0 +1,127 @@
+package gr.marou.password_generator.metrics;
+
+import java.util.Map;
+
+/**
+ * Management interface of the generator metrics, registered as
+ * {@value GeneratorMetrics#OBJECT_NAME} on the platform MBean server.
+ */
+public interface GeneratorMetricsMXBean {
+
+    /**
+     * Gets whether metrics are being collected.
+     *
+     * @return true if enabled
+     */
+    boolean isEnabled();
+
+    /**
+     * Turns metric collection on or off.
+     *
+     * @param enabled true to collect
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * Gets the number of passwords issued.
+     *
+     * @return issued passwords
+     */
+    long getGenerations();
+
+    /**
+     * Gets the generation rate, measured between reads at least one second apart.
+     *
+     * @return passwords per second
+     */
+    double getGenerationsPerSecond();
+
+    /**
+     * Gets the median generation latency.
+     *
+     * @return latency in nanoseconds
+     */
+    long getGenerationLatencyP50Nanos();
+
+    /**
+     * Gets the 99th percentile generation latency.
+     *
+     * @return latency in nanoseconds
+     */
+    long getGenerationLatencyP99Nanos();
+
+    /**
+     * Gets the 99.9th percentile generation latency.
+     *
+     * @return latency in nanoseconds
+     */
+    long getGenerationLatencyP999Nanos();
+
+    /**
+     * Gets the number of strength evaluations.
+     *
+     * @return evaluations
+     */
+    long getEvaluations();
+
+    /**
+     * Gets the median strength evaluation latency.
+     *
+     * @return latency in nanoseconds
+     */
+    long getEvaluationLatencyP50Nanos();
+
+    /**
+     * Gets the 99th percentile strength evaluation latency.
+     *
+     * @return latency in nanoseconds
+     */
+    long getEvaluationLatencyP99Nanos();
+
+    /**
+     * Gets the 99.9th percentile strength evaluation latency.
+     *
+     * @return latency in nanoseconds
+     */
+    long getEvaluationLatencyP999Nanos();
+
+    /**
+     * Gets the number of characters picked from the character groups.
+     *
+     * @return character picks
+     */
+    long getCharacterPicks();
+
+    /**
+     * Gets the number of already-used characters drawn and discarded while picking.
+     *
+     * @return pick rejections
+     */
+    long getPickRejections();
+
+    /**
+     * Gets the number of generated passwords rejected because they were found in the breach corpus.
+     *
+     * @return breach rejections
+     */
+    long getBreachRejections();
+
+    /**
+     * Gets the number of failed generations per {@link gr.marou.password_generator.model.enums.FailureCause}.
+     *
+     * @return failures by cause name
+     */
+    Map<String, Long> getFailuresByCause();
+
+    /**
+     * Gets the number of issued passwords per {@link gr.marou.password_generator.model.enums.StrengthLevel}.
+     *
+     * @return issued passwords by strength level name
+     */
+    Map<String, Long> getStrengthDistribution();
+
+    /**
+     * Clears every counter and histogram.
+     */
+    void reset();
+}
@@ -0,0 +1,116 @@
+package gr.marou.password_generator.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free log-linear histogram of latencies in nanoseconds.
+ * <p>
+ * Values below 16 ns get one bucket each; above that every power of two is split into eight
+ * buckets, so a reported percentile is at most 12.5% above the true value. Recording is a single
+ * atomic increment and never allocates.
+ */
+public final class LatencyHistogram {
+
+    /** Sub-buckets per power of two, as a bit count. */
+    private static final int SUB_BUCKET_BITS = 3;
+    /** Sub-buckets per power of two. */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    /** Values below this get one exact bucket each. */
+    private static final int LINEAR_LIMIT = 2 * SUB_BUCKETS;
+    /** Exponent of {@link #LINEAR_LIMIT}. */
+    private static final int LINEAR_BITS = SUB_BUCKET_BITS + 1;
+    /** Number of buckets, covering every non-negative long. */
+    private static final int BUCKETS = LINEAR_LIMIT + (63 - LINEAR_BITS) * SUB_BUCKETS;
+
+    /** Count of values per bucket. */
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos latency in nanoseconds, negative values counted as 0
+     */
+    public void record(long nanos) {
+        counts.getAndIncrement(bucket(Math.max(0, nanos)));
+    }
+
+    /**
+     * Gets the number of recorded values.
+     *
+     * @return value count
+     */
+    public long count() {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * Gets a percentile of the recorded values, as the upper bound of the bucket holding it.
+     *
+     * @param fraction percentile as a fraction, e.g. 0.99
+     * @return latency in nanoseconds, or 0 when nothing was recorded
+     */
+    public long percentile(double fraction) {
+        long[] snapshot = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(fraction * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return upperBound(i);
+            }
+        }
+        return upperBound(BUCKETS - 1);
+    }
+
+    /**
+     * Clears every bucket.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+    }
+
+    /**
+     * Gets the bucket of a value.
+     *
+     * @param value non-negative value
+     * @return bucket index
+     */
+    private static int bucket(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return LINEAR_LIMIT + (exponent - LINEAR_BITS) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * Gets the largest value of a bucket.
+     *
+     * @param bucket bucket index
+     * @return inclusive upper bound
+     */
+    private static long upperBound(int bucket) {
+        if (bucket < LINEAR_LIMIT) {
+            return bucket;
+        }
+        int exponent = (bucket - LINEAR_LIMIT) / SUB_BUCKETS + LINEAR_BITS;
+        int sub = (bucket - LINEAR_LIMIT) % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return (SUB_BUCKETS + sub) * width + width - 1;
+    }
+}
@@ -0,0 +1,12 @@
+package gr.marou.password_generator.model.dto;
+
+import gr.marou.password_generator.model.enums.StrengthLevel;
+
+/**
+ * Holds one of the weakest passwords found by an audit.
+ *
+ * @param offset   Byte offset of the line in the audited file
+ * @param password The password text
+ * @param strength Its strength level
+ */
+public record AuditOffenderDTO(long offset, String password, StrengthLevel strength) {}
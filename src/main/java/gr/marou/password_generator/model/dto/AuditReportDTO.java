@@ -0,0 +1,37 @@
+package gr.marou.password_generator.model.dto;
+
+import gr.marou.password_generator.model.enums.StrengthLevel;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds the outcome of a password-file audit.
+ *
+ * @param lines          Number of non-empty lines evaluated
+ * @param bytes          Size of the audited file in bytes
+ * @param elapsedNanos   Wall-clock time spent, in nanoseconds
+ * @param histogram      Number of passwords per strength level
+ * @param worstOffenders The weakest passwords, weakest first
+ */
+public record AuditReportDTO(long lines, long bytes, long elapsedNanos,
+                             Map<StrengthLevel, Long> histogram, List<AuditOffenderDTO> worstOffenders) {
+
+    /**
+     * Gets the read throughput.
+     *
+     * @return megabytes audited per second
+     */
+    public double megabytesPerSecond() {
+        return elapsedNanos == 0 ? 0 : bytes / (1024d * 1024d) * 1_000_000_000d / elapsedNanos;
+    }
+
+    /**
+     * Gets the evaluation throughput.
+     *
+     * @return lines audited per second
+     */
+    public double linesPerSecond() {
+        return elapsedNanos == 0 ? 0 : lines * 1_000_000_000d / elapsedNanos;
+    }
+}
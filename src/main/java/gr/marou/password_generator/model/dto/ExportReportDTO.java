@@ -0,0 +1,30 @@
+package gr.marou.password_generator.model.dto;
+
+/**
+ * Holds the outcome of a bulk password export.
+ *
+ * @param count        Number of passwords written
+ * @param bytes        Number of bytes written
+ * @param replaced     Number of already-issued passwords replaced in uniqueness mode
+ * @param elapsedNanos Wall-clock time spent, in nanoseconds
+ */
+public record ExportReportDTO(long count, long bytes, long replaced, long elapsedNanos) {
+
+    /**
+     * Gets the export throughput.
+     *
+     * @return passwords written per second
+     */
+    public double passwordsPerSecond() {
+        return elapsedNanos == 0 ? 0 : count * 1_000_000_000d / elapsedNanos;
+    }
+
+    /**
+     * Gets the write throughput.
+     *
+     * @return megabytes written per second
+     */
+    public double megabytesPerSecond() {
+        return elapsedNanos == 0 ? 0 : bytes / (1024d * 1024d) * 1_000_000_000d / elapsedNanos;
+    }
+}
@@ -0,0 +1,39 @@
+package gr.marou.password_generator.model.dto;
+
+import java.util.List;
+
+/**
+ * Holds the result of a bulk password generation together with its timing.
+ *
+ * @param passwords    Generated passwords, in generation order
+ * @param elapsedNanos Wall-clock time spent generating the batch, in nanoseconds
+ */
+public record PasswordBatchDTO(List<String> passwords, long elapsedNanos) {
+
+    /**
+     * Gets the number of passwords in the batch.
+     *
+     * @return batch size
+     */
+    public int count() {
+        return passwords.size();
+    }
+
+    /**
+     * Gets the amortized cost of a single password in the batch.
+     *
+     * @return nanoseconds per password
+     */
+    public double nanosPerPassword() {
+        return passwords.isEmpty() ? 0 : (double) elapsedNanos / passwords.size();
+    }
+
+    /**
+     * Gets the batch throughput.
+     *
+     * @return passwords generated per second
+     */
+    public double passwordsPerSecond() {
+        return elapsedNanos == 0 ? 0 : passwords.size() * 1_000_000_000d / elapsedNanos;
+    }
+}
@@ -0,0 +1,22 @@
+package gr.marou.password_generator.model.dto;
+
+/**
+ * Holds a snapshot of the password pool statistics.
+ *
+ * @param hits     Passwords served from the pool
+ * @param misses   Passwords generated inline because the pool was empty
+ * @param produced Passwords generated in the background
+ * @param ready    Passwords currently waiting in the pool, across all keys
+ */
+public record PasswordPoolStatsDTO(long hits, long misses, long produced, long ready) {
+
+    /**
+     * Gets the share of takes served from the pool.
+     *
+     * @return hit rate between 0 and 1
+     */
+    public double hitRate() {
+        long takes = hits + misses;
+        return takes == 0 ? 0 : (double) hits / takes;
+    }
+}
@@ -0,0 +1,22 @@
+package gr.marou.password_generator.model.dto;
+
+/**
+ * Holds a snapshot of the policy cache statistics.
+ *
+ * @param hits      Lookups served from the cache
+ * @param misses    Lookups that compiled a new policy
+ * @param evictions Policies evicted to stay within the capacity
+ * @param size      Policies currently cached
+ */
+public record PolicyCacheStatsDTO(long hits, long misses, long evictions, int size) {
+
+    /**
+     * Gets the share of lookups served from the cache.
+     *
+     * @return hit rate between 0 and 1
+     */
+    public double hitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+}
@@ -0,0 +1,21 @@
+package gr.marou.password_generator.model.dto;
+
+/**
+ * Holds the outcome of a provisioning run.
+ *
+ * @param count        Number of records written
+ * @param threads      Number of hashing threads
+ * @param bytes        Number of bytes written
+ * @param elapsedNanos Wall-clock time spent, in nanoseconds
+ */
+public record ProvisioningReportDTO(long count, int threads, long bytes, long elapsedNanos) {
+
+    /**
+     * Gets the provisioning throughput.
+     *
+     * @return records written per second
+     */
+    public double recordsPerSecond() {
+        return elapsedNanos == 0 ? 0 : count * 1_000_000_000d / elapsedNanos;
+    }
+}
@@ -0,0 +1,31 @@
+package gr.marou.password_generator.model.dto;
+
+/**
+ * Holds one measurement of a scaling report.
+ *
+ * @param threads      Number of worker threads used
+ * @param count        Number of passwords generated
+ * @param elapsedNanos Wall-clock time spent, in nanoseconds
+ */
+public record ThroughputSampleDTO(int threads, int count, long elapsedNanos) {
+
+    /**
+     * Gets the measured throughput.
+     *
+     * @return passwords generated per second
+     */
+    public double passwordsPerSecond() {
+        return elapsedNanos == 0 ? 0 : count * 1_000_000_000d / elapsedNanos;
+    }
+
+    /**
+     * Gets the speedup compared to a baseline sample.
+     *
+     * @param baseline the sample to compare against, usually the single-threaded one
+     * @return throughput ratio
+     */
+    public double speedupOver(ThroughputSampleDTO baseline) {
+        double base = baseline.passwordsPerSecond();
+        return base == 0 ? 0 : passwordsPerSecond() / base;
+    }
+}
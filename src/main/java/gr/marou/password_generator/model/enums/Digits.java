@@ -11,7 +11,7 @@ public enum Digits {
     /** Uppercase alphabet (A–Z). */
     UPPERCASE_LETTERS ("ABCDEFGHIJKLMNOPQRSTUVWXYZ"),
     /** Common special characters. */
-    SPECIAL_CHARACTERS ("!@#$%^&*()_+?><:{}[]-_.,");
+    SPECIAL_CHARACTERS ("!@#$%^&*()_+?><:{}[]-.,");
 
     /** Characters in this group. */
     private final String characters;
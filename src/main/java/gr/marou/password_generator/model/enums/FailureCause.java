@@ -0,0 +1,39 @@
+package gr.marou.password_generator.model.enums;
+
+/**
+ * Classifies why a password operation failed.
+ */
+public enum FailureCause {
+
+    /** Invalid or missing input. */
+    INVALID_INPUT("Invalid input"),
+    /** Requested length outside the allowed range. */
+    INVALID_LENGTH("Invalid length"),
+    /** A character group ran out of unused characters. */
+    CHARACTERS_EXHAUSTED("Characters exhausted"),
+    /** Every attempt produced a password found in the breach corpus. */
+    BREACH_RETRIES_EXHAUSTED("Breach retries exhausted"),
+    /** I/O or platform failure. */
+    INTERNAL("Internal error");
+
+    /** Label for the cause. */
+    private final String value;
+
+    /**
+     * Sets the label.
+     *
+     * @param value Display text
+     */
+    FailureCause(String value) {
+        this.value = value;
+    }
+
+    /**
+     * Gets the label.
+     *
+     * @return Text value
+     */
+    public String getValue() {
+        return value;
+    }
+}
@@ -0,0 +1,53 @@
+package gr.marou.password_generator.model.enums;
+
+import gr.marou.password_generator.exception.PasswordGenerationException;
+
+/**
+ * Represents the line format of bulk password output.
+ */
+public enum OutputFormat {
+
+    /** One password per line. */
+    PLAIN("plain"),
+    /** {@code password,strength} rows after a header row. */
+    CSV("csv"),
+    /** One {@code {"password":...,"strength":...}} object per line. */
+    NDJSON("ndjson");
+
+    /** Label for the format, as given on the command line. */
+    private final String value;
+
+    /**
+     * Sets the label.
+     *
+     * @param value Display text
+     */
+    OutputFormat(String value) {
+        this.value = value;
+    }
+
+    /**
+     * Gets the label.
+     *
+     * @return Text value
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Finds the format with the given label.
+     *
+     * @param value label, case-insensitive
+     * @return matching format
+     */
+    public static OutputFormat fromValue(String value) {
+        for (OutputFormat format : values()) {
+            if (format.value.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new PasswordGenerationException(String.format(
+                "Invalid format: %s. Expected plain, csv or ndjson.", value));
+    }
+}
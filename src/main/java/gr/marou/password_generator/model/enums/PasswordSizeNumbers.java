@@ -9,7 +9,11 @@ public enum PasswordSizeNumbers {
     /** Minimum allowed length. */
     MIN_LENGTH(8),
     /** Maximum allowed length. */
-    MAX_LENGTH(40);
+    MAX_LENGTH(40),
+    /** Minimum long-secret length. */
+    LONG_MIN_LENGTH(64),
+    /** Maximum long-secret length. */
+    LONG_MAX_LENGTH(4096);
 
     /** Numeric value for the setting. */
     private final int value;
@@ -0,0 +1,90 @@
+package gr.marou.password_generator.model.enums;
+
+import gr.marou.password_generator.exception.PasswordGenerationException;
+
+/**
+ * Represents the binary-to-text encoding of generated tokens. None of them uses padding.
+ */
+public enum TokenEncoding {
+
+    /** Lowercase hexadecimal, 4 bits per character. */
+    HEX("hex", "0123456789abcdef", 4),
+    /** Crockford base32, 5 bits per character, without the ambiguous I, L, O and U. */
+    BASE32("base32", "0123456789ABCDEFGHJKMNPQRSTVWXYZ", 5),
+    /** URL- and filename-safe base64 (RFC 4648), 6 bits per character. */
+    BASE64URL("base64url", "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_", 6);
+
+    /** Label for the encoding, as given on the command line. */
+    private final String value;
+    /** Output characters, indexed by digit value. */
+    private final char[] digits;
+    /** Bits encoded per character. */
+    private final int bitsPerChar;
+
+    /**
+     * Sets the label and the digits.
+     *
+     * @param value       Display text
+     * @param digits      Output characters
+     * @param bitsPerChar Bits per character
+     */
+    TokenEncoding(String value, String digits, int bitsPerChar) {
+        this.value = value;
+        this.digits = digits.toCharArray();
+        this.bitsPerChar = bitsPerChar;
+    }
+
+    /**
+     * Gets the label.
+     *
+     * @return Text value
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Gets the bits encoded per character.
+     *
+     * @return Bits per character
+     */
+    public int bitsPerChar() {
+        return bitsPerChar;
+    }
+
+    /**
+     * Gets the character of a digit value.
+     *
+     * @param digit digit value, below {@code 2^bitsPerChar}
+     * @return output character
+     */
+    public char digit(int digit) {
+        return digits[digit];
+    }
+
+    /**
+     * Computes the number of characters encoding a number of bytes.
+     *
+     * @param bytes byte count
+     * @return character count
+     */
+    public int encodedLength(int bytes) {
+        return (bytes * 8 + bitsPerChar - 1) / bitsPerChar;
+    }
+
+    /**
+     * Finds the encoding with the given label.
+     *
+     * @param value label, case-insensitive
+     * @return matching encoding
+     */
+    public static TokenEncoding fromValue(String value) {
+        for (TokenEncoding encoding : values()) {
+            if (encoding.value.equalsIgnoreCase(value)) {
+                return encoding;
+            }
+        }
+        throw new PasswordGenerationException(String.format(
+                "Invalid encoding: %s. Expected hex, base32 or base64url.", value));
+    }
+}
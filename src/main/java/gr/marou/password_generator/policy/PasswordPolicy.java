@@ -0,0 +1,433 @@
+package gr.marou.password_generator.policy;
+
+import gr.marou.password_generator.engine.CompiledAlphabet;
+import gr.marou.password_generator.exception.PasswordGenerationException;
+import gr.marou.password_generator.model.dto.PasswordOptionsDTO;
+import gr.marou.password_generator.model.enums.Digits;
+import gr.marou.password_generator.model.enums.FailureCause;
+import gr.marou.password_generator.util.PasswordOptionsUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable, pre-validated password generation policy.
+ * <p>
+ * A policy holds the character groups, the minimum number of characters drawn from each group,
+ * the excluded characters and the allowed length range. Everything is validated and compiled
+ * once by {@link Builder#build()}: duplicate and excluded characters are removed, the lookup
+ * tables are built and the length range is checked against the capacity of the groups, so
+ * generating with a policy only has to compare the requested length with its bounds.
+ */
+public final class PasswordPolicy {
+
+    /** Characters that are easily confused with each other in many fonts. */
+    public static final String AMBIGUOUS_CHARACTERS = "Il1O0o";
+
+    /** Policy equivalent to the predefined character sets of {@link Digits}. */
+    private static final PasswordPolicy DEFAULT = fromOptions(PasswordOptionsUtils.createDTOFromEnum()).build();
+
+    /** Character groups after de-duplication and exclusion, in rotation order. */
+    private final List<String> groups;
+    /** Minimum number of characters drawn from each group. */
+    private final int[] minimums;
+    /** Characters removed from every group. */
+    private final String excluded;
+    /** Minimum password length. */
+    private final int minLength;
+    /** Maximum password length. */
+    private final int maxLength;
+    /** Total number of characters required by the group minimums. */
+    private final int requiredCount;
+    /** Compiled lookup tables of the groups. */
+    private final CompiledAlphabet alphabet;
+    /** Canonical descriptor, computed on first use. */
+    private volatile PolicyDescriptor descriptor;
+
+    /**
+     * Creates a policy from validated parts.
+     */
+    private PasswordPolicy(List<String> groups, int[] minimums, String excluded,
+                           int minLength, int maxLength, int requiredCount, CompiledAlphabet alphabet) {
+        this.groups = groups;
+        this.minimums = minimums;
+        this.excluded = excluded;
+        this.minLength = minLength;
+        this.maxLength = maxLength;
+        this.requiredCount = requiredCount;
+        this.alphabet = alphabet;
+    }
+
+    /**
+     * Gets the policy built from the predefined character sets, requiring one character of each
+     * group and allowing any length the groups can supply.
+     *
+     * @return default policy
+     */
+    public static PasswordPolicy defaultPolicy() {
+        return DEFAULT;
+    }
+
+    /**
+     * Creates an empty policy builder.
+     *
+     * @return new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Creates a builder pre-filled with the groups of the given options, one required character each.
+     *
+     * @param options character options DTO
+     * @return new builder
+     */
+    public static Builder fromOptions(PasswordOptionsDTO options) {
+        if (options == null) {
+            throw new PasswordGenerationException("Character options must not be null.");
+        }
+        return builder()
+                .group(options.numbers(), 1)
+                .group(options.lowercaseLetters(), 1)
+                .group(options.uppercaseLetters(), 1)
+                .group(options.specialCharacters(), 1);
+    }
+
+    /**
+     * Validates and compiles the policy described by a descriptor.
+     *
+     * @param descriptor policy descriptor
+     * @return immutable policy
+     */
+    public static PasswordPolicy compile(PolicyDescriptor descriptor) {
+        if (descriptor == null) {
+            throw new PasswordGenerationException("Policy descriptor must not be null.");
+        }
+        Builder builder = builder().exclude(descriptor.excluded());
+        for (int i = 0; i < descriptor.groups().size(); i++) {
+            builder.group(descriptor.groups().get(i), descriptor.minimums().get(i));
+        }
+        builder.minLength = descriptor.minLength();
+        builder.maxLength = descriptor.maxLength();
+        return builder.build();
+    }
+
+    /**
+     * Gets the canonical descriptor of this policy, usable as a {@link PolicyCache} key.
+     *
+     * @return canonical descriptor
+     */
+    public PolicyDescriptor descriptor() {
+        PolicyDescriptor canonical = descriptor;
+        if (canonical == null) {
+            List<Integer> groupMinimums = new ArrayList<>(minimums.length);
+            for (int minimum : minimums) {
+                groupMinimums.add(minimum);
+            }
+            // Racing threads compute equal descriptors; keeping either is fine
+            canonical = new PolicyDescriptor(groups, groupMinimums, excluded, minLength, maxLength).canonical();
+            descriptor = canonical;
+        }
+        return canonical;
+    }
+
+    /**
+     * Checks that a length is allowed by this policy. This is the only check done per generation.
+     *
+     * @param length requested length
+     */
+    public void checkLength(Integer length) {
+        if (length == null || length < minLength) {
+            throw new PasswordGenerationException(String.format(
+                    "Password length must be at least %d to include all required character types.", minLength),
+                    FailureCause.INVALID_LENGTH);
+        }
+        if (length > maxLength) {
+            throw new PasswordGenerationException(String.format(
+                    "Requested password length (%d) exceeds the policy maximum (%d).", length, maxLength),
+                    FailureCause.INVALID_LENGTH);
+        }
+    }
+
+    /**
+     * Gets the character groups after de-duplication and exclusion.
+     *
+     * @return groups in rotation order
+     */
+    public List<String> groups() {
+        return groups;
+    }
+
+    /**
+     * Gets the minimum number of characters drawn from a group.
+     *
+     * @param group group index
+     * @return group minimum
+     */
+    public int minimum(int group) {
+        return minimums[group];
+    }
+
+    /**
+     * Gets the excluded characters.
+     *
+     * @return excluded characters
+     */
+    public String excluded() {
+        return excluded;
+    }
+
+    /**
+     * Gets the minimum password length.
+     *
+     * @return minimum length
+     */
+    public int minLength() {
+        return minLength;
+    }
+
+    /**
+     * Gets the maximum password length.
+     *
+     * @return maximum length
+     */
+    public int maxLength() {
+        return maxLength;
+    }
+
+    /**
+     * Gets the total number of characters required by the group minimums.
+     *
+     * @return required character count
+     */
+    public int requiredCount() {
+        return requiredCount;
+    }
+
+    /**
+     * Gets the compiled lookup tables of the groups.
+     *
+     * @return compiled alphabet
+     */
+    public CompiledAlphabet alphabet() {
+        return alphabet;
+    }
+
+    /**
+     * Collects and validates the parts of a {@link PasswordPolicy}.
+     */
+    public static final class Builder {
+
+        /** Raw character groups, in rotation order. */
+        private final List<String> groups = new ArrayList<>();
+        /** Minimum characters per group. */
+        private final List<Integer> minimums = new ArrayList<>();
+        /** Characters removed from every group. */
+        private final StringBuilder excluded = new StringBuilder();
+        /** Minimum length, or null to use the sum of the group minimums. */
+        private Integer minLength;
+        /** Maximum length, or null to use the capacity of the groups. */
+        private Integer maxLength;
+
+        /** Use {@link PasswordPolicy#builder()}. */
+        private Builder() {}
+
+        /**
+         * Adds a character group.
+         *
+         * @param characters group characters
+         * @param minimum    minimum number of characters drawn from the group
+         * @return this builder
+         */
+        public Builder group(String characters, int minimum) {
+            if (characters == null || characters.isEmpty()) {
+                throw new PasswordGenerationException("Character groups must not be empty.");
+            }
+            if (minimum < 0) {
+                throw new PasswordGenerationException("Group minimum must not be negative.");
+            }
+            groups.add(characters);
+            minimums.add(minimum);
+            return this;
+        }
+
+        /**
+         * Adds a character group from a list of characters.
+         *
+         * @param characters group characters
+         * @param minimum    minimum number of characters drawn from the group
+         * @return this builder
+         */
+        public Builder group(List<Character> characters, int minimum) {
+            StringBuilder text = new StringBuilder();
+            if (characters != null) {
+                characters.forEach(text::append);
+            }
+            return group(text.toString(), minimum);
+        }
+
+        /**
+         * Excludes characters from every group.
+         *
+         * @param characters characters to exclude
+         * @return this builder
+         */
+        public Builder exclude(String characters) {
+            if (characters != null) {
+                excluded.append(characters);
+            }
+            return this;
+        }
+
+        /**
+         * Excludes the {@link #AMBIGUOUS_CHARACTERS} from every group.
+         *
+         * @return this builder
+         */
+        public Builder excludeAmbiguous() {
+            return exclude(AMBIGUOUS_CHARACTERS);
+        }
+
+        /**
+         * Sets the allowed length range.
+         *
+         * @param min minimum length
+         * @param max maximum length
+         * @return this builder
+         */
+        public Builder lengthRange(int min, int max) {
+            this.minLength = min;
+            this.maxLength = max;
+            return this;
+        }
+
+        /**
+         * Validates and compiles the policy.
+         *
+         * @return immutable policy
+         */
+        public PasswordPolicy build() {
+            if (groups.isEmpty()) {
+                throw new PasswordGenerationException("A policy needs at least one character group.");
+            }
+            String excludedChars = distinct(excluded, "");
+            List<String> cleaned = new ArrayList<>(groups.size());
+            int[] groupMinimums = new int[groups.size()];
+            char[][] tables = new char[groups.size()][];
+            int required = 0;
+            for (int i = 0; i < groups.size(); i++) {
+                String group = distinct(groups.get(i), excludedChars);
+                if (group.isEmpty()) {
+                    throw new PasswordGenerationException("Character groups must not be empty.");
+                }
+                groupMinimums[i] = minimums.get(i);
+                if (groupMinimums[i] > group.length()) {
+                    throw new PasswordGenerationException(String.format(
+                            "Group minimum (%d) exceeds the number of characters in the group (%d).",
+                            groupMinimums[i], group.length()));
+                }
+                required += groupMinimums[i];
+                cleaned.add(group);
+                tables[i] = group.toCharArray();
+            }
+
+            CompiledAlphabet alphabet = CompiledAlphabet.of(tables);
+            int capacity = capacity(tables, groupMinimums, required, alphabet.uniqueCount());
+            if (capacity < required) {
+                throw new PasswordGenerationException(
+                        "Group minimums cannot all be met without repeating a character shared between groups.");
+            }
+            int min = minLength != null ? minLength : Math.max(1, required);
+            int max = maxLength != null ? maxLength : capacity;
+            if (min < required || min < 1) {
+                throw new PasswordGenerationException(String.format(
+                        "Minimum length (%d) must be at least the required character count (%d).", min, required));
+            }
+            if (max < min) {
+                throw new PasswordGenerationException("Maximum length must not be below the minimum length.");
+            }
+            if (max > capacity) {
+                throw new PasswordGenerationException(String.format(
+                        "Maximum length (%d) exceeds the number of unique characters the groups can supply (%d).",
+                        max, capacity));
+            }
+            return new PasswordPolicy(List.copyOf(cleaned), groupMinimums, excludedChars, min, max, required, alphabet);
+        }
+
+        /**
+         * Computes the longest password the groups can supply without repeating a character.
+         * <p>
+         * Each group first supplies its minimum, then characters are drawn from the groups in
+         * rotation, so the smallest groups run out first; this is usually well below the number of
+         * distinct characters. A character shared with other groups may already have been taken by
+         * them, so a group only counts on those of its shared characters the other groups cannot
+         * have used.
+         *
+         * @param tables   characters of each group
+         * @param minimums minimum characters per group
+         * @param required characters taken by the group minimums
+         * @param unique   number of distinct characters across the groups
+         * @return maximum achievable length, below {@code required} if even the minimums cannot be met
+         */
+        private static int capacity(char[][] tables, int[] minimums, int required, int unique) {
+            int groupCount = tables.length;
+            int[] shared = sharedCounts(tables);
+            int[] needs = new int[groupCount];
+            int capacity = required - 1;
+            for (int length = required; length <= unique; length++) {
+                int rotating = length - required;
+                for (int group = 0; group < groupCount; group++) {
+                    needs[group] = minimums[group] + rotating / groupCount + (group < rotating % groupCount ? 1 : 0);
+                }
+                for (int group = 0; group < groupCount; group++) {
+                    int takenByOthers = length - needs[group];
+                    if (needs[group] > tables[group].length - Math.min(shared[group], takenByOthers)) {
+                        return capacity;
+                    }
+                }
+                capacity = length;
+            }
+            return capacity;
+        }
+
+        /**
+         * Counts, for each group, the characters that also appear in another group.
+         *
+         * @param tables characters of each group
+         * @return shared character count per group
+         */
+        private static int[] sharedCounts(char[][] tables) {
+            int[] shared = new int[tables.length];
+            for (int group = 0; group < tables.length; group++) {
+                for (char c : tables[group]) {
+                    for (int other = 0; other < tables.length; other++) {
+                        if (other != group && new String(tables[other]).indexOf(c) >= 0) {
+                            shared[group]++;
+                            break;
+                        }
+                    }
+                }
+            }
+            return shared;
+        }
+
+        /**
+         * Removes repeated and excluded characters, keeping the first occurrence of each.
+         *
+         * @param characters source characters
+         * @param excluded   characters to drop
+         * @return cleaned characters
+         */
+        private static String distinct(CharSequence characters, String excluded) {
+            StringBuilder result = new StringBuilder(characters.length());
+            for (int i = 0; i < characters.length(); i++) {
+                char c = characters.charAt(i);
+                if (excluded.indexOf(c) < 0 && result.indexOf(String.valueOf(c)) < 0) {
+                    result.append(c);
+                }
+            }
+            return result.toString();
+        }
+    }
+}
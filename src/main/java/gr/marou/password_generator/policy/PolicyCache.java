@@ -0,0 +1,155 @@
+package gr.marou.password_generator.policy;
+
+import gr.marou.password_generator.exception.PasswordGenerationException;
+import gr.marou.password_generator.model.dto.PolicyCacheStatsDTO;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, thread-safe LRU cache of compiled {@link PasswordPolicy} instances keyed by their
+ * canonical {@link PolicyDescriptor}.
+ * <p>
+ * Hits take no lock: policies live in a {@link ConcurrentHashMap} and a hit only stamps its entry
+ * with the current access epoch. The epoch advances on every miss, so recency is tracked between
+ * misses, which is all eviction needs. A missing policy is compiled without blocking lookups of
+ * other tenants, and when the cache outgrows its capacity the entry with the oldest stamp is
+ * evicted. When two threads miss on the same descriptor at once, the first compiled policy wins
+ * and both get it.
+ */
+public class PolicyCache {
+
+    /** Default number of cached policies. */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    /** Maximum number of cached policies. */
+    private final int capacity;
+    /** Cached policies with their last access epoch. */
+    private final Map<PolicyDescriptor, Entry> policies = new ConcurrentHashMap<>();
+    /** Access epoch, advanced on every miss. */
+    private final AtomicLong epoch = new AtomicLong();
+    /** Lookups served from the cache. */
+    private final LongAdder hits = new LongAdder();
+    /** Lookups that compiled a new policy. */
+    private final LongAdder misses = new LongAdder();
+    /** Policies evicted to stay within the capacity. */
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a cache with the default capacity.
+     */
+    public PolicyCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a cache holding at most the given number of policies.
+     *
+     * @param capacity maximum number of cached policies
+     */
+    public PolicyCache(int capacity) {
+        if (capacity < 1) {
+            throw new PasswordGenerationException("Policy cache capacity must be at least 1.");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Gets the compiled policy for a descriptor, compiling and caching it on a miss.
+     * <p>
+     * Policies are stored under their canonical descriptor. The given descriptor is probed first
+     * as is, so callers that keep canonical descriptors skip the canonicalization.
+     *
+     * @param descriptor policy descriptor
+     * @return compiled policy
+     */
+    public PasswordPolicy get(PolicyDescriptor descriptor) {
+        if (descriptor == null) {
+            throw new PasswordGenerationException("Policy descriptor must not be null.");
+        }
+        PasswordPolicy policy = lookup(descriptor);
+        PolicyDescriptor key = descriptor;
+        if (policy == null) {
+            key = descriptor.canonical();
+            if (!key.equals(descriptor)) {
+                policy = lookup(key);
+            }
+        }
+        if (policy != null) {
+            hits.increment();
+            return policy;
+        }
+
+        misses.increment();
+        Entry compiled = new Entry(PasswordPolicy.compile(key), epoch.incrementAndGet());
+        Entry raced = policies.putIfAbsent(key, compiled);
+        if (raced != null) return raced.policy;
+        while (policies.size() > capacity) {
+            evictOldest();
+        }
+        return compiled.policy;
+    }
+
+    /**
+     * Gets a cached policy, stamping it with the current epoch.
+     *
+     * @param key descriptor to look up
+     * @return cached policy, or null if absent
+     */
+    private PasswordPolicy lookup(PolicyDescriptor key) {
+        Entry entry = policies.get(key);
+        if (entry == null) return null;
+        long now = epoch.get();
+        // Write only once per epoch, so hits on a popular policy do not contend on its stamp
+        if (entry.stamp != now) entry.stamp = now;
+        return entry.policy;
+    }
+
+    /**
+     * Evicts the least recently used policy. Runs only on misses, which compile a policy anyway.
+     */
+    private void evictOldest() {
+        Map.Entry<PolicyDescriptor, Entry> oldest = null;
+        for (Map.Entry<PolicyDescriptor, Entry> candidate : policies.entrySet()) {
+            if (oldest == null || candidate.getValue().stamp < oldest.getValue().stamp) {
+                oldest = candidate;
+            }
+        }
+        if (oldest != null && policies.remove(oldest.getKey(), oldest.getValue())) {
+            evictions.increment();
+        }
+    }
+
+    /**
+     * Gets a snapshot of the cache statistics.
+     *
+     * @return hit, miss and eviction counts and the current size
+     */
+    public PolicyCacheStatsDTO stats() {
+        return new PolicyCacheStatsDTO(hits.sum(), misses.sum(), evictions.sum(), policies.size());
+    }
+
+    /**
+     * A cached policy and the epoch it was last used in.
+     */
+    private static final class Entry {
+
+        /** Compiled policy. */
+        private final PasswordPolicy policy;
+        /** Epoch of the last lookup. */
+        private volatile long stamp;
+
+        /**
+         * Creates an entry.
+         *
+         * @param policy compiled policy
+         * @param stamp  current epoch
+         */
+        private Entry(PasswordPolicy policy, long stamp) {
+            this.policy = policy;
+            this.stamp = stamp;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package gr.marou.password_generator.policy;
+
+import gr.marou.password_generator.exception.PasswordGenerationException;
+import gr.marou.password_generator.model.enums.Digits;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plain description of a password policy, used as the key of the {@link PolicyCache}.
+ * <p>
+ * Two descriptors of the same policy are equal once {@link #canonical() canonicalized}, whatever
+ * the order or repetition of the characters they list.
+ *
+ * @param groups    Character groups, in rotation order
+ * @param minimums  Minimum number of characters drawn from each group
+ * @param excluded  Characters removed from every group
+ * @param minLength Minimum length, or null for the sum of the group minimums
+ * @param maxLength Maximum length, or null for the capacity of the groups
+ */
+public record PolicyDescriptor(List<String> groups, List<Integer> minimums, String excluded,
+                               Integer minLength, Integer maxLength) {
+
+    /**
+     * Validates and copies the parts.
+     */
+    public PolicyDescriptor {
+        if (groups == null || minimums == null || groups.size() != minimums.size()) {
+            throw new PasswordGenerationException("Policy descriptor needs one minimum per character group.");
+        }
+        groups = List.copyOf(groups);
+        minimums = List.copyOf(minimums);
+        excluded = excluded == null ? "" : excluded;
+    }
+
+    /**
+     * Describes the predefined character sets of {@link Digits}, one required character each.
+     *
+     * @return default descriptor
+     */
+    public static PolicyDescriptor defaults() {
+        List<String> groups = new ArrayList<>();
+        List<Integer> minimums = new ArrayList<>();
+        for (Digits digits : Digits.values()) {
+            groups.add(digits.getCharacters());
+            minimums.add(1);
+        }
+        return new PolicyDescriptor(groups, minimums, "", null, null);
+    }
+
+    /**
+     * Gets the canonical form: every group sorted, without repeated or excluded characters, and
+     * the excluded characters sorted without repetition.
+     *
+     * @return canonical descriptor
+     */
+    public PolicyDescriptor canonical() {
+        String canonicalExcluded = sortedDistinct(excluded, "");
+        List<String> canonicalGroups = new ArrayList<>(groups.size());
+        for (String group : groups) {
+            canonicalGroups.add(sortedDistinct(group, canonicalExcluded));
+        }
+        return new PolicyDescriptor(canonicalGroups, minimums, canonicalExcluded, minLength, maxLength);
+    }
+
+    /**
+     * Sorts characters and drops repeated and excluded ones.
+     *
+     * @param characters source characters
+     * @param excluded   characters to drop
+     * @return sorted distinct characters
+     */
+    private static String sortedDistinct(String characters, String excluded) {
+        if (characters == null) {
+            throw new PasswordGenerationException("Character groups must not be null.");
+        }
+        StringBuilder result = new StringBuilder(characters.length());
+        characters.chars()
+                .filter(c -> excluded.indexOf(c) < 0)
+                .distinct()
+                .sorted()
+                .forEach(c -> result.append((char) c));
+        return result.toString();
+    }
+}
@@ -0,0 +1,530 @@
+package gr.marou.password_generator.provisioning;
+
+import gr.marou.password_generator.exception.PasswordGenerationException;
+import gr.marou.password_generator.model.dto.ProvisioningReportDTO;
+import gr.marou.password_generator.model.dto.ThroughputSampleDTO;
+import gr.marou.password_generator.service.PasswordService;
+import gr.marou.password_generator.util.Utf8Utils;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Serial;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Provisions initial credentials: generates passwords, hashes them with PBKDF2 and streams
+ * {@code id,password,salt,hash} CSV records to disk.
+ * <p>
+ * Three stages run concurrently. A generator thread writes passwords and salts into fixed-size
+ * chunks and submits each chunk to a fork-join pool, where it is split down to single records so
+ * idle workers can steal hashing work. The calling thread writes finished chunks in order. A bounded
+ * queue between the generator and the writer keeps memory constant and stops the generator from
+ * running ahead of the hashing. Password characters are wiped once their chunk is written.
+ */
+public class ProvisioningPipeline {
+
+    /** Default PBKDF2 iteration count. */
+    public static final int DEFAULT_ITERATIONS = 600_000;
+    /** Smallest PBKDF2 iteration count accepted. */
+    public static final int MIN_ITERATIONS = 10_000;
+    /** Default salt size in bytes. */
+    public static final int DEFAULT_SALT_BYTES = 16;
+    /** Smallest salt size in bytes, 128 bits. */
+    public static final int MIN_SALT_BYTES = 16;
+    /** Largest salt size in bytes. */
+    public static final int MAX_SALT_BYTES = 1024;
+    /** Size of the derived hash in bits. */
+    private static final int HASH_BITS = 256;
+    /** JDK algorithm name of the hash. */
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    /** Records generated and hashed together. */
+    private static final int CHUNK_SIZE = 16;
+    /** Chunks queued per hashing thread before the generator waits. */
+    private static final int CHUNKS_PER_THREAD = 4;
+    /** Size of the write buffer in bytes. */
+    private static final int BUFFER_BYTES = 1 << 20;
+    /** Credentials provisioned before a scaling report starts measuring. */
+    private static final int WARM_UP_RECORDS = 64;
+    /** CSV header line. */
+    private static final String HEADER = "id,password,salt,hash\n";
+    /** Marks the end of the queued chunks. */
+    private static final Pending END = new Pending(null, null);
+    /** Per-thread key factories; instances are not thread-safe. */
+    private static final ThreadLocal<SecretKeyFactory> KEY_FACTORIES = ThreadLocal.withInitial(() -> {
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM);
+        } catch (GeneralSecurityException e) {
+            throw new PasswordGenerationException(ALGORITHM + " is not available.", e);
+        }
+    });
+
+    /** Service generating the passwords. */
+    private final PasswordService passwordService;
+    /** PBKDF2 iteration count. */
+    private final int iterations;
+    /** Salt size in bytes. */
+    private final int saltBytes;
+
+    /**
+     * Creates a pipeline with the default iterations and salt size.
+     *
+     * @param passwordService service generating the passwords
+     */
+    public ProvisioningPipeline(PasswordService passwordService) {
+        this(passwordService, DEFAULT_ITERATIONS, DEFAULT_SALT_BYTES);
+    }
+
+    /**
+     * Creates a pipeline.
+     *
+     * @param passwordService service generating the passwords
+     * @param iterations      PBKDF2 iteration count, at least {@value #MIN_ITERATIONS}
+     * @param saltBytes       salt size in bytes, between {@value #MIN_SALT_BYTES} and {@value #MAX_SALT_BYTES}
+     */
+    public ProvisioningPipeline(PasswordService passwordService, int iterations, int saltBytes) {
+        if (passwordService == null) {
+            throw new PasswordGenerationException("Password service must not be null.");
+        }
+        if (iterations < MIN_ITERATIONS) {
+            throw new PasswordGenerationException(String.format(
+                    "Invalid iteration count: %d. Allowed range is [%d-%d].",
+                    iterations, MIN_ITERATIONS, Integer.MAX_VALUE));
+        }
+        if (saltBytes < MIN_SALT_BYTES || saltBytes > MAX_SALT_BYTES) {
+            throw new PasswordGenerationException(String.format(
+                    "Invalid salt size: %d. Allowed range is [%d-%d].", saltBytes, MIN_SALT_BYTES, MAX_SALT_BYTES));
+        }
+        this.passwordService = passwordService;
+        this.iterations = iterations;
+        this.saltBytes = saltBytes;
+    }
+
+    /**
+     * Provisions credentials into a file, replacing it.
+     *
+     * @param target      output file
+     * @param length      password length
+     * @param count       number of credentials
+     * @param parallelism number of hashing threads
+     * @return run summary
+     */
+    public ProvisioningReportDTO provision(Path target, int length, long count, int parallelism) {
+        checkRequest(length, count, parallelism);
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            return provision(channel, length, count, parallelism);
+        } catch (IOException e) {
+            throw new PasswordGenerationException("Could not write credentials to " + target + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Provisions credentials into a channel, which is left open.
+     *
+     * @param channel     destination
+     * @param length      password length
+     * @param count       number of credentials
+     * @param parallelism number of hashing threads
+     * @return run summary
+     * @throws IOException if the channel cannot be written
+     */
+    public ProvisioningReportDTO provision(WritableByteChannel channel, int length, long count, int parallelism)
+            throws IOException {
+        checkRequest(length, count, parallelism);
+        long start = System.nanoTime();
+        BlockingQueue<Pending> queue = new ArrayBlockingQueue<>(parallelism * CHUNKS_PER_THREAD);
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        Generator generator = new Generator(queue, pool, length, count);
+        Thread generatorThread = Thread.ofPlatform().name("provisioning-generator").daemon().start(generator);
+        try {
+            long bytes = write(channel, queue, length);
+            if (generator.failure != null) {
+                throw generator.failure;
+            }
+            return new ProvisioningReportDTO(count, parallelism, bytes, System.nanoTime() - start);
+        } finally {
+            generator.stopped = true;
+            generatorThread.interrupt();
+            pool.shutdownNow();
+            for (Pending pending = queue.poll(); pending != null && pending != END; pending = queue.poll()) {
+                pending.task().cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Measures provisioning throughput at 1, 2, 4 ... threads up to the available processors,
+     * discarding the records.
+     *
+     * @param length password length
+     * @param count  number of credentials per sample
+     * @return one sample per thread count, in increasing order
+     */
+    public List<ThroughputSampleDTO> measureScaling(int length, int count) {
+        WritableByteChannel discard = Channels.newChannel(OutputStream.nullOutputStream());
+        int processors = Runtime.getRuntime().availableProcessors();
+        List<ThroughputSampleDTO> samples = new ArrayList<>();
+        try {
+            // Warm up the hashing path so the single-threaded sample is not measured cold
+            provision(discard, length, Math.min(count, WARM_UP_RECORDS), processors);
+            for (int threads = 1; ; threads = Math.min(threads * 2, processors)) {
+                ProvisioningReportDTO report = provision(discard, length, count, threads);
+                samples.add(new ThroughputSampleDTO(threads, count, report.elapsedNanos()));
+                if (threads == processors) break;
+            }
+        } catch (IOException e) {
+            throw new PasswordGenerationException("Could not measure provisioning: " + e.getMessage(), e);
+        }
+        return samples;
+    }
+
+    /**
+     * Validates a request before any file is touched or thread started.
+     *
+     * @param length      password length
+     * @param count       number of credentials
+     * @param parallelism number of hashing threads
+     */
+    private void checkRequest(int length, long count, int parallelism) {
+        if (count < 1) {
+            throw new PasswordGenerationException("Credential count must be at least 1.");
+        }
+        if (parallelism < 1) {
+            throw new PasswordGenerationException("Parallelism must be at least 1.");
+        }
+        // Rejects lengths the service cannot generate
+        char[] probe = new char[Math.max(length, 0)];
+        passwordService.generateInto(probe, 0, length);
+        Arrays.fill(probe, '\0');
+    }
+
+    /**
+     * Writer stage: writes finished chunks in order until the end marker.
+     *
+     * @param channel destination
+     * @param queue   chunks in submission order
+     * @param length  password length
+     * @return number of bytes written
+     * @throws IOException if the channel cannot be written
+     */
+    private long write(WritableByteChannel channel, BlockingQueue<Pending> queue, int length)
+            throws IOException {
+        byte[] encoded = new byte[Math.max(4 * ((saltBytes + 2) / 3), 4 * ((HASH_BITS / 8 + 2) / 3))];
+        int recordBytes = 20 + 2 + length * 6 + encoded.length * 2 + 4;
+        // Every record must fit once the buffer is drained, whatever the salt and password sizes
+        ByteBuffer buffer = ByteBuffer.allocate(Math.max(BUFFER_BYTES, HEADER.length() + recordBytes));
+        long bytes = 0;
+        buffer.put(HEADER.getBytes(StandardCharsets.US_ASCII));
+        while (true) {
+            Pending pending;
+            try {
+                pending = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new PasswordGenerationException("Provisioning was interrupted.", e);
+            }
+            if (pending == END) {
+                break;
+            }
+            join(pending.task());
+            Chunk chunk = pending.chunk();
+            try {
+                for (int i = 0; i < chunk.size; i++) {
+                    if (buffer.remaining() < recordBytes) {
+                        bytes += drain(channel, buffer);
+                    }
+                    putLong(buffer, chunk.firstId + i);
+                    buffer.put((byte) ',');
+                    putCsvField(buffer, chunk.passwords, i * length, length);
+                    buffer.put((byte) ',');
+                    putBase64(buffer, chunk.salts[i], encoded);
+                    buffer.put((byte) ',');
+                    putBase64(buffer, chunk.hashes[i], encoded);
+                    buffer.put((byte) '\n');
+                }
+            } finally {
+                Arrays.fill(chunk.passwords, '\0');
+            }
+        }
+        return bytes + drain(channel, buffer);
+    }
+
+    /**
+     * Waits for a chunk to be hashed, unwrapping hashing failures.
+     *
+     * @param task hashing task
+     */
+    private static void join(ForkJoinTask<Void> task) {
+        try {
+            task.join();
+        } catch (PasswordGenerationException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new PasswordGenerationException("Could not hash credentials: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Hashes one password with PBKDF2; the key spec's copy of the password is cleared afterwards.
+     *
+     * @param passwords password characters of the chunk
+     * @param offset    first character of the password
+     * @param length    password length
+     * @param salt      salt
+     * @return derived hash
+     */
+    private byte[] hash(char[] passwords, int offset, int length, byte[] salt) {
+        char[] password = Arrays.copyOfRange(passwords, offset, offset + length);
+        PBEKeySpec spec = new PBEKeySpec(password, salt, iterations, HASH_BITS);
+        Arrays.fill(password, '\0');
+        try {
+            return KEY_FACTORIES.get().generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new PasswordGenerationException("Could not hash a password: " + e.getMessage(), e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+
+    /**
+     * Encodes a password as a CSV field, quoting it only if it contains a separator or a quote.
+     *
+     * @param buffer    destination
+     * @param passwords password characters of the chunk
+     * @param offset    first character of the password
+     * @param length    password length
+     */
+    private static void putCsvField(ByteBuffer buffer, char[] passwords, int offset, int length) {
+        boolean quoted = false;
+        for (int i = offset; i < offset + length && !quoted; i++) {
+            quoted = passwords[i] == ',' || passwords[i] == '"' || passwords[i] == '\n' || passwords[i] == '\r';
+        }
+        if (!quoted) {
+            Utf8Utils.encode(passwords, offset, length, buffer);
+            return;
+        }
+        buffer.put((byte) '"');
+        for (int i = offset; i < offset + length; i++) {
+            if (passwords[i] == '"') {
+                buffer.put((byte) '"');
+            }
+            Utf8Utils.encode(passwords, i, 1, buffer);
+        }
+        buffer.put((byte) '"');
+    }
+
+    /**
+     * Encodes bytes as Base64 through a reusable scratch array.
+     *
+     * @param buffer  destination
+     * @param value   bytes to encode
+     * @param scratch scratch array large enough for the encoding
+     */
+    private static void putBase64(ByteBuffer buffer, byte[] value, byte[] scratch) {
+        int size = Base64.getEncoder().encode(value, scratch);
+        buffer.put(scratch, 0, size);
+    }
+
+    /**
+     * Encodes a non-negative decimal number.
+     *
+     * @param buffer destination
+     * @param value  value
+     */
+    private static void putLong(ByteBuffer buffer, long value) {
+        int start = buffer.position();
+        do {
+            buffer.put((byte) ('0' + value % 10));
+            value /= 10;
+        } while (value != 0);
+        for (int i = start, j = buffer.position() - 1; i < j; i++, j--) {
+            byte tmp = buffer.get(i);
+            buffer.put(i, buffer.get(j));
+            buffer.put(j, tmp);
+        }
+    }
+
+    /**
+     * Writes the buffered bytes to the channel and clears the buffer.
+     *
+     * @param channel destination
+     * @param buffer  filled buffer
+     * @return number of bytes written
+     * @throws IOException if the channel cannot be written
+     */
+    private static int drain(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        int bytes = buffer.remaining();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+        return bytes;
+    }
+
+    /**
+     * Passwords, salts and hashes of consecutive credentials.
+     */
+    private static final class Chunk {
+
+        /** Id of the first credential. */
+        private final long firstId;
+        /** Number of credentials. */
+        private final int size;
+        /** Password characters, {@code length} per credential. */
+        private final char[] passwords;
+        /** Salt per credential. */
+        private final byte[][] salts;
+        /** Hash per credential, filled by the hashing stage. */
+        private final byte[][] hashes;
+
+        /**
+         * Creates an empty chunk.
+         *
+         * @param firstId   id of the first credential
+         * @param size      number of credentials
+         * @param length    password length
+         * @param saltBytes salt size in bytes
+         */
+        private Chunk(long firstId, int size, int length, int saltBytes) {
+            this.firstId = firstId;
+            this.size = size;
+            this.passwords = new char[size * length];
+            this.salts = new byte[size][saltBytes];
+            this.hashes = new byte[size][];
+        }
+    }
+
+    /**
+     * A chunk queued for the writer with the task hashing it.
+     *
+     * @param chunk credentials
+     * @param task  hashing task
+     */
+    private record Pending(Chunk chunk, ForkJoinTask<Void> task) {}
+
+    /**
+     * Generator stage: fills chunks and hands them to the pool and the writer.
+     */
+    private final class Generator implements Runnable {
+
+        /** Chunks in submission order, bounded. */
+        private final BlockingQueue<Pending> queue;
+        /** Hashing pool. */
+        private final ForkJoinPool pool;
+        /** Password length. */
+        private final int length;
+        /** Number of credentials. */
+        private final long count;
+        /** Set by the writer when it stops early. */
+        private volatile boolean stopped;
+        /** Failure to report to the writer, or null. */
+        private volatile PasswordGenerationException failure;
+
+        /**
+         * Creates the generator stage.
+         *
+         * @param queue  chunks in submission order
+         * @param pool   hashing pool
+         * @param length password length
+         * @param count  number of credentials
+         */
+        private Generator(BlockingQueue<Pending> queue, ForkJoinPool pool, int length, long count) {
+            this.queue = queue;
+            this.pool = pool;
+            this.length = length;
+            this.count = count;
+        }
+
+        /**
+         * Generates every chunk, then queues the end marker.
+         */
+        @Override
+        public void run() {
+            SecureRandom saltRandom = new SecureRandom();
+            try {
+                for (long next = 0; next < count && !stopped; next += CHUNK_SIZE) {
+                    Chunk chunk = new Chunk(next + 1, (int) Math.min(CHUNK_SIZE, count - next), length, saltBytes);
+                    for (int i = 0; i < chunk.size; i++) {
+                        passwordService.generateInto(chunk.passwords, i * length, length);
+                        saltRandom.nextBytes(chunk.salts[i]);
+                    }
+                    queue.put(new Pending(chunk, pool.submit(new HashTask(chunk, 0, chunk.size))));
+                }
+            } catch (PasswordGenerationException e) {
+                failure = e;
+            } catch (RuntimeException e) {
+                failure = new PasswordGenerationException("Could not generate credentials: " + e.getMessage(), e);
+            } catch (InterruptedException e) {
+                return;
+            }
+            try {
+                queue.put(END);
+            } catch (InterruptedException e) {
+                // The writer stopped early and no longer reads the queue
+            }
+        }
+    }
+
+    /**
+     * Fork-join task hashing a range of a chunk, split down to single credentials.
+     */
+    private final class HashTask extends RecursiveAction {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        /** Chunk being hashed. */
+        private final transient Chunk chunk;
+        /** First credential of the range, inclusive. */
+        private final int from;
+        /** Last credential of the range, exclusive. */
+        private final int to;
+
+        /**
+         * Creates a task for a range of a chunk.
+         *
+         * @param chunk chunk being hashed
+         * @param from  first credential, inclusive
+         * @param to    last credential, exclusive
+         */
+        private HashTask(Chunk chunk, int from, int to) {
+            this.chunk = chunk;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Hashes a single credential or splits the range in halves.
+         */
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                int length = chunk.passwords.length / chunk.size;
+                chunk.hashes[from] = hash(chunk.passwords, from * length, length, chunk.salts[from]);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new HashTask(chunk, from, middle), new HashTask(chunk, middle, to));
+        }
+    }
+}
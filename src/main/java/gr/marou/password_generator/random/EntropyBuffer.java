@@ -0,0 +1,115 @@
+package gr.marou.password_generator.random;
+
+import gr.marou.password_generator.exception.PasswordGenerationException;
+
+import java.security.SecureRandom;
+
+/**
+ * Random source that reads entropy from a {@link SecureRandom} in bulk and serves bounded
+ * indices with unbiased rejection sampling.
+ * <p>
+ * Each draw consumes the fewest whole bytes that cover the bound (one byte for every charset
+ * index), so a password costs a handful of provider calls per buffer instead of one per
+ * character. Not thread-safe; give each thread its own buffer or guard it externally.
+ */
+public final class EntropyBuffer implements RandomSource {
+
+    /** Default number of bytes fetched from the provider per refill. */
+    public static final int DEFAULT_CAPACITY = 512;
+
+    /** Underlying secure random generator. */
+    private final SecureRandom random;
+    /** Random bytes fetched ahead of use. */
+    private final byte[] buffer;
+    /** Index of the next unread byte. */
+    private int position;
+    /** Number of bulk reads made from the provider. */
+    private long providerCalls;
+    /** Number of bounded values served. */
+    private long draws;
+
+    /**
+     * Creates a buffer with a new, self-seeded secure random generator.
+     */
+    public EntropyBuffer() {
+        this(new SecureRandom(), DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a buffer over the given secure random generator.
+     *
+     * @param random   secure random generator
+     * @param capacity bytes fetched per refill, at least 4
+     */
+    public EntropyBuffer(SecureRandom random, int capacity) {
+        if (random == null || capacity < 4) {
+            throw new PasswordGenerationException("Entropy buffer needs a random generator and a capacity of at least 4 bytes.");
+        }
+        this.random = random;
+        this.buffer = new byte[capacity];
+        this.position = capacity;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Values at or above the largest multiple of the bound are rejected and redrawn, so every
+     * result is equally likely.
+     */
+    @Override
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new PasswordGenerationException("Bound must be positive.");
+        }
+        draws++;
+        if (bound == 1) return 0;
+
+        int bytes = bound <= 0x100 ? 1 : bound <= 0x10000 ? 2 : 4;
+        long range = 1L << (bytes * 8);
+        long limit = range - range % bound;
+        long value;
+        do {
+            value = nextUnsigned(bytes);
+        } while (value >= limit);
+        return (int) (value % bound);
+    }
+
+    /**
+     * Gets the number of bulk reads made from the provider so far.
+     *
+     * @return provider call count
+     */
+    public long providerCalls() {
+        return providerCalls;
+    }
+
+    /**
+     * Gets the number of bounded values served so far.
+     *
+     * @return draw count
+     */
+    public long draws() {
+        return draws;
+    }
+
+    /**
+     * Reads an unsigned big-endian value of the given width from the buffer.
+     *
+     * @param bytes width in bytes (1, 2 or 4)
+     * @return unsigned value
+     */
+    private long nextUnsigned(int bytes) {
+        if (position + bytes > buffer.length) {
+            random.nextBytes(buffer);
+            providerCalls++;
+            position = 0;
+        }
+        long value = 0;
+        for (int i = 0; i < bytes; i++) {
+            value = (value << 8) | (buffer[position] & 0xFF);
+            // Wipe consumed entropy so it cannot be read back from the buffer
+            buffer[position++] = 0;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,15 @@
+package gr.marou.password_generator.random;
+
+/**
+ * Source of random values used for password generation.
+ */
+public interface RandomSource {
+
+    /**
+     * Returns a uniformly distributed value between zero (inclusive) and the bound (exclusive).
+     *
+     * @param bound upper bound, must be positive
+     * @return random value in {@code [0, bound)}
+     */
+    int nextInt(int bound);
+}
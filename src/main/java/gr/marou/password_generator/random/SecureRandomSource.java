@@ -0,0 +1,38 @@
+package gr.marou.password_generator.random;
+
+import java.security.SecureRandom;
+
+/**
+ * Random source backed by a single, independently seeded {@link SecureRandom}.
+ * <p>
+ * Intended to be owned by one worker; sharing it between threads serializes them on the provider.
+ */
+public final class SecureRandomSource implements RandomSource {
+
+    /** Underlying secure random generator. */
+    private final SecureRandom random;
+
+    /**
+     * Creates a source with a new, self-seeded secure random generator.
+     */
+    public SecureRandomSource() {
+        this(new SecureRandom());
+    }
+
+    /**
+     * Creates a source over the given secure random generator.
+     *
+     * @param random secure random generator
+     */
+    public SecureRandomSource(SecureRandom random) {
+        this.random = random;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+}
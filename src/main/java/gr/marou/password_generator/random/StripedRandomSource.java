@@ -0,0 +1,94 @@
+package gr.marou.password_generator.random;
+
+import java.security.SecureRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread-safe random source backed by a striped pool of {@link EntropyBuffer} instances,
+ * each over its own {@link SecureRandom}.
+ * <p>
+ * Each calling thread is mapped to one stripe by its thread id. With at least twice as many
+ * stripes as processors, concurrent callers almost always land on different stripes, so the
+ * per-stripe lock is uncontended and callers do not wait on a shared provider. The locks are
+ * {@link ReentrantLock}s rather than monitors, so a virtual thread refilling a stripe from
+ * {@link SecureRandom} does not pin its carrier thread.
+ */
+public final class StripedRandomSource implements RandomSource {
+
+    /** Stripes created per available processor. */
+    private static final int STRIPES_PER_PROCESSOR = 2;
+
+    /** Independently seeded entropy buffers. */
+    private final EntropyBuffer[] stripes;
+    /** Lock guarding the entropy buffer of the same index. */
+    private final ReentrantLock[] locks;
+    /** Mask selecting a stripe; the stripe count is a power of two. */
+    private final int mask;
+
+    /**
+     * Creates a pool sized for the available processors.
+     */
+    public StripedRandomSource() {
+        this(Runtime.getRuntime().availableProcessors() * STRIPES_PER_PROCESSOR);
+    }
+
+    /**
+     * Creates a pool with at least the given number of stripes.
+     *
+     * @param minStripes minimum number of stripes, rounded up to a power of two
+     */
+    public StripedRandomSource(int minStripes) {
+        int size = minStripes <= 1 ? 1 : Integer.highestOneBit(minStripes - 1) << 1;
+        this.stripes = new EntropyBuffer[size];
+        this.locks = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new EntropyBuffer(new SecureRandom(), EntropyBuffer.DEFAULT_CAPACITY);
+            locks[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextInt(int bound) {
+        int stripe = stripe();
+        ReentrantLock lock = locks[stripe];
+        lock.lock();
+        try {
+            return stripes[stripe].nextInt(bound);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of bulk reads made from the providers of all stripes.
+     *
+     * @return provider call count
+     */
+    public long providerCalls() {
+        long total = 0;
+        for (int stripe = 0; stripe < stripes.length; stripe++) {
+            locks[stripe].lock();
+            try {
+                total += stripes[stripe].providerCalls();
+            } finally {
+                locks[stripe].unlock();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Selects the stripe of the calling thread.
+     *
+     * @return stripe index for the current thread
+     */
+    private int stripe() {
+        long id = Thread.currentThread().threadId();
+        // Fibonacci hashing spreads sequential thread ids across the stripes
+        return (int) ((id * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+}
@@ -0,0 +1,270 @@
+package gr.marou.password_generator.server;
+
+import gr.marou.password_generator.exception.PasswordGenerationException;
+
+import jdk.net.ExtendedSocketOptions;
+import jdk.net.UnixDomainPrincipal;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Binary protocol spoken between the CLI and the {@link PasswordDaemon}, in network byte order.
+ * <p>
+ * Request, 6 bytes: {@code [version:1][op:1][length:4]}, a length of 0 asking for the default length.
+ * <br>
+ * Response: {@code [status:1][strength:1][size:2][payload:size]}, the payload being the UTF-8
+ * password on success or the UTF-8 error message on failure. The strength byte is the ordinal of
+ * the password's {@link gr.marou.password_generator.model.enums.StrengthLevel}.
+ * <p>
+ * A connection may carry any number of request/response pairs.
+ * <p>
+ * The socket lives in a private per-user directory, and both ends only talk to a peer running as
+ * the same user, so another local user cannot stand in for the daemon and hand out known passwords.
+ */
+public final class DaemonProtocol {
+
+    /** Protocol version sent in every request. */
+    public static final byte VERSION = 1;
+    /** Operation generating one password. */
+    public static final byte OP_GENERATE = 1;
+    /** Status of a successful response. */
+    public static final byte STATUS_OK = 0;
+    /** Status of a failed response. */
+    public static final byte STATUS_ERROR = 1;
+    /** Size of a request in bytes. */
+    public static final int REQUEST_BYTES = 6;
+    /** Size of a response header in bytes. */
+    public static final int RESPONSE_HEADER_BYTES = 4;
+    /** Environment variable overriding the socket path. */
+    public static final String SOCKET_ENV = "PASSWORD_DAEMON_SOCKET";
+    /** Environment variable naming the per-user runtime directory. */
+    private static final String RUNTIME_DIR_ENV = "XDG_RUNTIME_DIR";
+    /** Name of the socket file inside its directory. */
+    private static final String SOCKET_NAME = "daemon.sock";
+    /** Permissions of the socket directory. */
+    private static final Set<PosixFilePermission> DIRECTORY_PERMISSIONS = PosixFilePermissions.fromString("rwx------");
+    /** Permissions of the socket file. */
+    private static final Set<PosixFilePermission> SOCKET_PERMISSIONS = PosixFilePermissions.fromString("rw-------");
+    /** Permissions that must not be granted to anyone but the owner. */
+    private static final Set<PosixFilePermission> SHARED_PERMISSIONS = EnumSet.of(
+            PosixFilePermission.GROUP_READ, PosixFilePermission.GROUP_WRITE, PosixFilePermission.GROUP_EXECUTE,
+            PosixFilePermission.OTHERS_READ, PosixFilePermission.OTHERS_WRITE, PosixFilePermission.OTHERS_EXECUTE);
+
+    /** Private constructor to prevent instantiation. */
+    private DaemonProtocol() {}
+
+    /**
+     * Gets the socket path: the {@value #SOCKET_ENV} variable, or {@value #SOCKET_NAME} in a private
+     * {@code password-generator} directory under {@value #RUNTIME_DIR_ENV}, falling back to a
+     * per-user directory in the temp directory.
+     *
+     * @return socket path
+     */
+    public static Path socketPath() {
+        String configured = System.getenv(SOCKET_ENV);
+        if (configured != null && !configured.isBlank()) {
+            return Path.of(configured);
+        }
+        String runtimeDir = System.getenv(RUNTIME_DIR_ENV);
+        Path directory = runtimeDir != null && !runtimeDir.isBlank()
+                ? Path.of(runtimeDir, "password-generator")
+                : Path.of(System.getProperty("java.io.tmpdir"), "password-generator-" + System.getProperty("user.name"));
+        return directory.resolve(SOCKET_NAME);
+    }
+
+    /**
+     * Creates the socket directory with owner-only permissions if it is missing, and checks that
+     * an existing one is private to the current user.
+     *
+     * @param socket socket path
+     * @throws IOException if the directory cannot be created or inspected
+     */
+    public static void prepareDirectory(Path socket) throws IOException {
+        Path directory = socket.toAbsolutePath().getParent();
+        if (!Files.exists(directory, LinkOption.NOFOLLOW_LINKS)) {
+            Files.createDirectories(directory, PosixFilePermissions.asFileAttribute(DIRECTORY_PERMISSIONS));
+            // The umask may have narrowed the requested permissions; set them explicitly
+            Files.setPosixFilePermissions(directory, DIRECTORY_PERMISSIONS);
+        }
+        if (!isPrivate(directory)) {
+            throw new PasswordGenerationException("Daemon socket directory " + directory
+                    + " must be a directory owned by the current user and not accessible to others.");
+        }
+    }
+
+    /**
+     * Restricts a bound socket file to its owner.
+     *
+     * @param socket socket path
+     * @throws IOException if the permissions cannot be set
+     */
+    public static void restrictSocket(Path socket) throws IOException {
+        Files.setPosixFilePermissions(socket, SOCKET_PERMISSIONS);
+    }
+
+    /**
+     * Checks that a socket and its directory are owned by the current user and that the directory
+     * grants nothing to others. Links are not followed.
+     *
+     * @param socket socket path
+     * @return true if the socket can be trusted
+     */
+    public static boolean isTrusted(Path socket) {
+        try {
+            UserPrincipal owner = Files.getOwner(socket, LinkOption.NOFOLLOW_LINKS);
+            return owner.equals(currentUser()) && isPrivate(socket.toAbsolutePath().getParent());
+        } catch (IOException | UnsupportedOperationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Checks that the process at the other end of a connection runs as the current user. Where the
+     * platform cannot report peer credentials, only the socket file checks apply.
+     *
+     * @param channel connected channel
+     * @return false if the peer is known to be another user
+     */
+    public static boolean isSameUser(SocketChannel channel) {
+        try {
+            UnixDomainPrincipal peer = channel.getOption(ExtendedSocketOptions.SO_PEERCRED);
+            return peer.user().equals(currentUser());
+        } catch (UnsupportedOperationException e) {
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Checks that a directory is owned by the current user and grants nothing to others.
+     *
+     * @param directory directory
+     * @return true if the directory is private
+     * @throws IOException if the directory cannot be inspected
+     */
+    private static boolean isPrivate(Path directory) throws IOException {
+        PosixFileAttributeView view = Files.getFileAttributeView(directory, PosixFileAttributeView.class,
+                LinkOption.NOFOLLOW_LINKS);
+        if (view == null) {
+            return false;
+        }
+        PosixFileAttributes attributes = view.readAttributes();
+        return attributes.isDirectory()
+                && attributes.owner().equals(currentUser())
+                && attributes.permissions().stream().noneMatch(SHARED_PERMISSIONS::contains);
+    }
+
+    /**
+     * Gets the user the process runs as.
+     *
+     * @return current user
+     * @throws IOException if the user cannot be looked up
+     */
+    private static UserPrincipal currentUser() throws IOException {
+        return Path.of("").getFileSystem().getUserPrincipalLookupService()
+                .lookupPrincipalByName(System.getProperty("user.name"));
+    }
+
+    /**
+     * Writes a generate request.
+     *
+     * @param channel connected channel
+     * @param length  requested length, or 0 for the default length
+     * @throws IOException if the request cannot be written
+     */
+    public static void writeRequest(WritableByteChannel channel, int length) throws IOException {
+        ByteBuffer request = ByteBuffer.allocate(REQUEST_BYTES)
+                .put(VERSION)
+                .put(OP_GENERATE)
+                .putInt(length)
+                .flip();
+        writeFully(channel, request);
+    }
+
+    /**
+     * Writes a response.
+     *
+     * @param channel  connected channel
+     * @param status   {@link #STATUS_OK} or {@link #STATUS_ERROR}
+     * @param strength strength ordinal, ignored on failure
+     * @param payload  password or error message
+     * @throws IOException if the response cannot be written
+     */
+    public static void writeResponse(WritableByteChannel channel, byte status, int strength, String payload)
+            throws IOException {
+        byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+        int size = Math.min(bytes.length, 0xFFFF);
+        ByteBuffer response = ByteBuffer.allocate(RESPONSE_HEADER_BYTES + size)
+                .put(status)
+                .put((byte) strength)
+                .putShort((short) size)
+                .put(bytes, 0, size)
+                .flip();
+        writeFully(channel, response);
+    }
+
+    /**
+     * Reads exactly the remaining bytes of a buffer.
+     *
+     * @param channel connected channel
+     * @param buffer  buffer to fill, flipped on return
+     * @return false on a clean end of stream before the first byte
+     * @throws IOException if the stream ends part-way or cannot be read
+     */
+    public static boolean readFully(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                if (buffer.position() == 0) {
+                    return false;
+                }
+                throw new EOFException("Daemon connection closed mid-message.");
+            }
+        }
+        buffer.flip();
+        return true;
+    }
+
+    /**
+     * Checks the version and operation of a request.
+     *
+     * @param request request bytes
+     */
+    public static void checkRequest(ByteBuffer request) {
+        byte version = request.get();
+        byte op = request.get();
+        if (version != VERSION || op != OP_GENERATE) {
+            throw new PasswordGenerationException(String.format(
+                    "Unsupported daemon request (version %d, operation %d).", version, op));
+        }
+    }
+
+    /**
+     * Writes every remaining byte of a buffer.
+     *
+     * @param channel connected channel
+     * @param buffer  bytes to write
+     * @throws IOException if the bytes cannot be written
+     */
+    private static void writeFully(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package gr.marou.password_generator.server;
+
+import gr.marou.password_generator.exception.PasswordGenerationException;
+import gr.marou.password_generator.model.enums.StrengthLevel;
+import gr.marou.password_generator.service.PasswordService;
+
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Resident generation daemon listening on a Unix domain socket.
+ * <p>
+ * Keeps one warmed-up {@link PasswordService} for the lifetime of the process and answers
+ * {@link DaemonProtocol} requests, one virtual thread per connection, so repeated CLI calls skip
+ * JVM start-up and logging setup.
+ */
+public final class PasswordDaemon implements AutoCloseable {
+
+    /** Passwords generated at start-up to warm up the generation path. */
+    private static final int WARM_UP_PASSWORDS = 10_000;
+
+    /** Service generating and evaluating the passwords. */
+    private final PasswordService passwordService;
+    /** Socket file the daemon listens on. */
+    private final Path socket;
+    /** Listening channel. */
+    private final ServerSocketChannel server;
+    /** Virtual-thread-per-connection executor. */
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    /** Released once the daemon is closed. */
+    private final CountDownLatch stopped = new CountDownLatch(1);
+
+    /**
+     * Creates a daemon over a bound channel.
+     *
+     * @param passwordService service generating and evaluating the passwords
+     * @param socket          socket file
+     * @param server          bound channel
+     */
+    private PasswordDaemon(PasswordService passwordService, Path socket, ServerSocketChannel server) {
+        this.passwordService = passwordService;
+        this.socket = socket;
+        this.server = server;
+    }
+
+    /**
+     * Warms up the service, binds the socket and starts accepting connections.
+     * <p>
+     * The socket directory is created private to the current user if missing, and refused if it is
+     * not. A socket file left by a daemon that is no longer running is replaced.
+     *
+     * @param passwordService service generating and evaluating the passwords
+     * @param socket          socket file
+     * @return running daemon
+     * @throws IOException if the socket cannot be bound
+     */
+    public static PasswordDaemon start(PasswordService passwordService, Path socket) throws IOException {
+        if (passwordService == null) {
+            throw new PasswordGenerationException("Password service must not be null.");
+        }
+        DaemonProtocol.prepareDirectory(socket);
+        UnixDomainSocketAddress address = UnixDomainSocketAddress.of(socket);
+        if (Files.exists(socket, LinkOption.NOFOLLOW_LINKS)) {
+            if (isListening(address)) {
+                throw new PasswordGenerationException("A daemon is already listening on " + socket + ".");
+            }
+            Files.deleteIfExists(socket);
+        }
+
+        passwordService.generatePasswords(passwordService.getDefaultLength(), WARM_UP_PASSWORDS);
+        ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        server.bind(address);
+        DaemonProtocol.restrictSocket(socket);
+        PasswordDaemon daemon = new PasswordDaemon(passwordService, socket, server);
+        daemon.executor.submit(daemon::accept);
+        return daemon;
+    }
+
+    /**
+     * Checks whether something accepts connections on a socket.
+     *
+     * @param address socket address
+     * @return true if a connection could be made
+     */
+    private static boolean isListening(UnixDomainSocketAddress address) {
+        try (SocketChannel probe = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+            return probe.connect(address);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Gets the socket file.
+     *
+     * @return socket path
+     */
+    public Path socket() {
+        return socket;
+    }
+
+    /**
+     * Blocks until the daemon is closed.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void await() throws InterruptedException {
+        stopped.await();
+    }
+
+    /**
+     * Stops accepting connections, closes the executor and removes the socket file.
+     */
+    @Override
+    public void close() {
+        try {
+            server.close();
+            executor.shutdownNow();
+            Files.deleteIfExists(socket);
+        } catch (IOException e) {
+            // The socket file may already be gone; nothing else to release
+        } finally {
+            stopped.countDown();
+        }
+    }
+
+    /**
+     * Accepts connections until the channel is closed.
+     */
+    private void accept() {
+        try {
+            while (true) {
+                SocketChannel connection = server.accept();
+                executor.submit(() -> serve(connection));
+            }
+        } catch (ClosedChannelException e) {
+            // Closed by close()
+        } catch (IOException e) {
+            close();
+        }
+    }
+
+    /**
+     * Answers requests on a connection until the client closes it. Connections from other users
+     * are closed unanswered.
+     *
+     * @param connection client connection
+     */
+    private void serve(SocketChannel connection) {
+        try (connection) {
+            if (!DaemonProtocol.isSameUser(connection)) {
+                return;
+            }
+            ByteBuffer request = ByteBuffer.allocate(DaemonProtocol.REQUEST_BYTES);
+            while (DaemonProtocol.readFully(connection, request.clear())) {
+                try {
+                    DaemonProtocol.checkRequest(request);
+                    int length = request.getInt();
+                    String password = passwordService.generatePassword(
+                            length == 0 ? passwordService.getDefaultLength() : length);
+                    StrengthLevel strength = passwordService.evaluateStrength(password);
+                    DaemonProtocol.writeResponse(connection, DaemonProtocol.STATUS_OK, strength.ordinal(), password);
+                } catch (PasswordGenerationException e) {
+                    DaemonProtocol.writeResponse(connection, DaemonProtocol.STATUS_ERROR, 0, e.getMessage());
+                } catch (RuntimeException e) {
+                    DaemonProtocol.writeResponse(connection, DaemonProtocol.STATUS_ERROR, 0,
+                            "Internal Server Error: " + e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            // Client went away; its connection is closed above
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package gr.marou.password_generator.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import gr.marou.password_generator.exception.PasswordGenerationException;
+import gr.marou.password_generator.model.enums.PasswordSizeNumbers;
+import gr.marou.password_generator.service.PasswordService;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Embedded HTTP front end of a shared {@link PasswordService}, built on the JDK HTTP server.
+ * <p>
+ * Every request runs on its own virtual thread, so blocking I/O never holds a platform thread.
+ * Endpoints:
+ * <ul>
+ *   <li>{@code GET /generate?length=&count=} returns the passwords as text, one per line</li>
+ *   <li>{@code POST /evaluate} takes a password as the UTF-8 body and returns its strength level</li>
+ * </ul>
+ * Invalid requests, including malformed query strings, get a 400 response carrying the validation message.
+ */
+public final class PasswordHttpServer implements AutoCloseable {
+
+    /** Largest number of passwords a single generate request may ask for. */
+    public static final int MAX_COUNT = 1000;
+    /** Largest accepted evaluate body, in bytes. */
+    private static final int MAX_BODY_BYTES = 4096;
+    /** Content type of every response. */
+    private static final String CONTENT_TYPE = "text/plain; charset=utf-8";
+    /** JDK server property disabling Nagle's algorithm on accepted connections. */
+    private static final String NO_DELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    // Headers and body are written separately; without TCP_NODELAY the body waits for the
+    // client's delayed ACK, adding tens of milliseconds to every keep-alive response.
+    static {
+        if (System.getProperty(NO_DELAY_PROPERTY) == null) {
+            System.setProperty(NO_DELAY_PROPERTY, "true");
+        }
+    }
+
+    /** Service generating and evaluating the passwords. */
+    private final PasswordService passwordService;
+    /** Underlying JDK server. */
+    private final HttpServer server;
+    /** Virtual-thread-per-request executor. */
+    private final ExecutorService executor;
+    /** Released once the server is closed. */
+    private final CountDownLatch stopped = new CountDownLatch(1);
+
+    /**
+     * Creates a server bound to the given address, not yet started.
+     *
+     * @param passwordService service generating and evaluating the passwords
+     * @param address         address to bind, port 0 picking a free port
+     * @throws IOException if the address cannot be bound
+     */
+    private PasswordHttpServer(PasswordService passwordService, InetSocketAddress address) throws IOException {
+        this.passwordService = passwordService;
+        this.server = HttpServer.create(address, 0);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext("/generate", this::handleGenerate);
+        server.createContext("/evaluate", this::handleEvaluate);
+    }
+
+    /**
+     * Binds and starts a server.
+     *
+     * @param passwordService service generating and evaluating the passwords
+     * @param address         address to bind, port 0 picking a free port
+     * @return running server
+     * @throws IOException if the address cannot be bound
+     */
+    public static PasswordHttpServer start(PasswordService passwordService, InetSocketAddress address) throws IOException {
+        if (passwordService == null) {
+            throw new PasswordGenerationException("Password service must not be null.");
+        }
+        PasswordHttpServer httpServer = new PasswordHttpServer(passwordService, address);
+        httpServer.server.start();
+        return httpServer;
+    }
+
+    /**
+     * Gets the bound port.
+     *
+     * @return port
+     */
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Blocks until the server is closed.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void await() throws InterruptedException {
+        stopped.await();
+    }
+
+    /**
+     * Stops accepting requests, lets running ones finish and releases the executor.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+        stopped.countDown();
+    }
+
+    /**
+     * Handles {@code GET /generate?length=&count=}.
+     *
+     * @param exchange HTTP exchange
+     * @throws IOException if the response cannot be written
+     */
+    private void handleGenerate(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                send(exchange, 405, "Method not allowed. Use GET.");
+                return;
+            }
+            try {
+                Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+                int length = parseLength(query.get("length"));
+                int count = parseCount(query.get("count"));
+                if (count == 1) {
+                    send(exchange, 200, passwordService.generatePassword(length) + "\n");
+                    return;
+                }
+                List<String> passwords = passwordService.generatePasswords(length, count).passwords();
+                StringBuilder body = new StringBuilder(count * (length + 1));
+                for (String password : passwords) {
+                    body.append(password).append('\n');
+                }
+                send(exchange, 200, body.toString());
+            } catch (PasswordGenerationException e) {
+                send(exchange, 400, e.getMessage());
+            } catch (Exception e) {
+                send(exchange, 500, "Internal Server Error: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Handles {@code POST /evaluate}.
+     *
+     * @param exchange HTTP exchange
+     * @throws IOException if the request cannot be read or the response written
+     */
+    private void handleEvaluate(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                send(exchange, 405, "Method not allowed. Use POST.");
+                return;
+            }
+            byte[] body;
+            try (InputStream in = exchange.getRequestBody()) {
+                body = in.readNBytes(MAX_BODY_BYTES + 1);
+            }
+            if (body.length > MAX_BODY_BYTES) {
+                send(exchange, 413, String.format("Password must not exceed %d bytes.", MAX_BODY_BYTES));
+                return;
+            }
+            try {
+                String password = stripLineTerminator(new String(body, StandardCharsets.UTF_8));
+                send(exchange, 200, passwordService.evaluateStrength(password).getValue() + "\n");
+            } catch (PasswordGenerationException e) {
+                send(exchange, 400, e.getMessage());
+            } catch (Exception e) {
+                send(exchange, 500, "Internal Server Error: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Parses and range-checks the {@code length} parameter, defaulting to the service default.
+     *
+     * @param value raw parameter, or null
+     * @return password length
+     */
+    private int parseLength(String value) {
+        if (value == null) {
+            return passwordService.getDefaultLength();
+        }
+        int length = parseInt(value, "Invalid length. Length must be a numeric value.");
+        if (length < PasswordSizeNumbers.MIN_LENGTH.getValue() || length > PasswordSizeNumbers.MAX_LENGTH.getValue()) {
+            throw new PasswordGenerationException(String.format("Invalid length: %d. Allowed range is [%d-%d].",
+                    length, PasswordSizeNumbers.MIN_LENGTH.getValue(), PasswordSizeNumbers.MAX_LENGTH.getValue()));
+        }
+        return length;
+    }
+
+    /**
+     * Parses and range-checks the {@code count} parameter, defaulting to 1.
+     *
+     * @param value raw parameter, or null
+     * @return password count
+     */
+    private static int parseCount(String value) {
+        if (value == null) {
+            return 1;
+        }
+        int count = parseInt(value, "Invalid count. Count must be a numeric value.");
+        if (count < 1 || count > MAX_COUNT) {
+            throw new PasswordGenerationException(String.format(
+                    "Invalid count: %d. Allowed range is [1-%d].", count, MAX_COUNT));
+        }
+        return count;
+    }
+
+    /**
+     * Parses an integer parameter.
+     *
+     * @param value   raw parameter
+     * @param message error message if it is not numeric
+     * @return parsed value
+     */
+    private static int parseInt(String value, String message) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new PasswordGenerationException(message);
+        }
+    }
+
+    /**
+     * Parses a raw query string; the last occurrence of a repeated parameter wins.
+     *
+     * @param rawQuery raw query, or null
+     * @return decoded parameters
+     */
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            String name = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            parameters.put(decode(name), decode(value));
+        }
+        return parameters;
+    }
+
+    /**
+     * Decodes a URL-encoded query component.
+     *
+     * @param component raw component
+     * @return decoded component
+     */
+    private static String decode(String component) {
+        try {
+            return URLDecoder.decode(component, StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new PasswordGenerationException("Malformed query string: invalid percent-encoding.");
+        }
+    }
+
+    /**
+     * Removes one trailing line terminator, as added by most command-line HTTP clients.
+     *
+     * @param text request body
+     * @return body without the terminator
+     */
+    private static String stripLineTerminator(String text) {
+        if (text.endsWith("\r\n")) {
+            return text.substring(0, text.length() - 2);
+        }
+        if (text.endsWith("\n")) {
+            return text.substring(0, text.length() - 1);
+        }
+        return text;
+    }
+
+    /**
+     * Sends a plain-text response.
+     *
+     * @param exchange HTTP exchange
+     * @param status   status code
+     * @param body     response body
+     * @throws IOException if the response cannot be written
+     */
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -3,30 +3,35 @@ package gr.marou.password_generator.service;
 import gr.marou.password_generator.exception.PasswordGenerationException;
 import gr.marou.password_generator.model.enums.PasswordSizeNumbers;
 import gr.marou.password_generator.model.enums.StrengthLevel;
+import gr.marou.password_generator.random.RandomSource;
+import gr.marou.password_generator.random.StripedRandomSource;
 import gr.marou.password_generator.util.PasswordStrengthUtils;
 
-import java.security.SecureRandom;
-import java.util.Collections;
-import java.util.List;
-
 /**
  * Abstract base class providing common password utilities.
  */
 public abstract class BaseService {
 
-    /** Secure random generator for password operations. */
-    protected final SecureRandom random = new SecureRandom();
+    /** Secure random source for password operations, safe to share between threads. */
+    protected final RandomSource random = new StripedRandomSource();
 
     /**
-     * Shuffles a list of characters using a secure random source.
+     * Shuffles the first {@code length} characters of an array in place (Fisher-Yates).
      *
-     * @param characters the list to shuffle
+     * @param characters the array to shuffle
+     * @param length     number of leading characters to shuffle
+     * @param source     secure random source to draw from
      */
-    protected void shuffle(List<Character> characters) {
-        if (characters == null || characters.isEmpty()) {
-            throw new PasswordGenerationException("Cannot shuffle a null or empty character list.");
+    protected void shuffle(char[] characters, int length, RandomSource source) {
+        if (characters == null || length <= 0 || length > characters.length) {
+            throw new PasswordGenerationException("Cannot shuffle a null or empty character array.");
+        }
+        for (int i = length; i > 1; i--) {
+            int j = source.nextInt(i);
+            char tmp = characters[i - 1];
+            characters[i - 1] = characters[j];
+            characters[j] = tmp;
         }
-        Collections.shuffle(characters, random);
     }
 
     /**
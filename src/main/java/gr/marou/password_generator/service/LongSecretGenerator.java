@@ -0,0 +1,171 @@
+package gr.marou.password_generator.service;
+
+import gr.marou.password_generator.exception.PasswordGenerationException;
+import gr.marou.password_generator.model.enums.FailureCause;
+import gr.marou.password_generator.model.enums.PasswordSizeNumbers;
+import gr.marou.password_generator.policy.PasswordPolicy;
+import gr.marou.password_generator.random.EntropyBuffer;
+
+import java.security.SecureRandom;
+import java.util.Arrays;
+
+/**
+ * Generator of long, high-entropy secrets such as API keys and passphrases, between
+ * {@link PasswordSizeNumbers#LONG_MIN_LENGTH} and {@link PasswordSizeNumbers#LONG_MAX_LENGTH} characters.
+ * <p>
+ * Unlike {@link PasswordService}, characters may repeat, so the length is not bounded by the size
+ * of the alphabet. The group minimums of the policy still hold: they are drawn from their groups,
+ * every other character is drawn uniformly from all distinct characters of the policy, and the
+ * required characters are then moved to random positions. Generation costs one bounded draw per
+ * character plus one per required character, served from a bulk {@link EntropyBuffer}.
+ * <p>
+ * Not thread-safe; use one instance per thread.
+ */
+public final class LongSecretGenerator {
+
+    /** Bytes fetched from the secure random generator per refill. */
+    private static final int ENTROPY_CAPACITY = 8192;
+
+    /** Generation policy supplying the groups and their minimums. */
+    private final PasswordPolicy policy;
+    /** Distinct characters of every group. */
+    private final char[] alphabet;
+    /** Characters of each group. */
+    private final char[][] groups;
+    /** Bulk random source. */
+    private final EntropyBuffer random;
+
+    /**
+     * Creates a generator over the default policy.
+     */
+    public LongSecretGenerator() {
+        this(PasswordPolicy.defaultPolicy());
+    }
+
+    /**
+     * Creates a generator over a policy; only its groups, minimums and exclusions are used.
+     *
+     * @param policy generation policy
+     */
+    public LongSecretGenerator(PasswordPolicy policy) {
+        if (policy == null) {
+            throw new PasswordGenerationException("Password policy must not be null.");
+        }
+        this.policy = policy;
+        this.groups = new char[policy.groups().size()][];
+        StringBuilder distinct = new StringBuilder();
+        for (int i = 0; i < groups.length; i++) {
+            String group = policy.groups().get(i);
+            groups[i] = group.toCharArray();
+            for (char c : groups[i]) {
+                if (distinct.indexOf(String.valueOf(c)) < 0) {
+                    distinct.append(c);
+                }
+            }
+        }
+        this.alphabet = distinct.toString().toCharArray();
+        this.random = new EntropyBuffer(new SecureRandom(), ENTROPY_CAPACITY);
+    }
+
+    /**
+     * Generates a secret.
+     *
+     * @param length secret length
+     * @return secret
+     */
+    public String generate(int length) {
+        checkLength(length);
+        char[] chars = new char[length];
+        try {
+            generateInto(chars, 0, length);
+            return new String(chars);
+        } finally {
+            Arrays.fill(chars, '\0');
+        }
+    }
+
+    /**
+     * Generates a secret into a caller-owned array, which the caller can wipe after use.
+     *
+     * @param destination destination array
+     * @param offset      index of the first character written
+     * @param length      secret length
+     */
+    public void generateInto(char[] destination, int offset, int length) {
+        checkLength(length);
+        if (destination == null || offset < 0 || offset > destination.length - length) {
+            throw new PasswordGenerationException("Destination array is too small for the requested length.");
+        }
+        int required = 0;
+        for (int group = 0; group < groups.length; group++) {
+            char[] characters = groups[group];
+            for (int i = policy.minimum(group); i > 0; i--) {
+                destination[offset + required++] = characters[random.nextInt(characters.length)];
+            }
+        }
+        for (int i = offset + required; i < offset + length; i++) {
+            destination[i] = alphabet[random.nextInt(alphabet.length)];
+        }
+        // The free characters are independent and identically distributed, so a partial
+        // Fisher-Yates over the required ones is enough to place them uniformly
+        for (int i = 0; i < required; i++) {
+            int j = i + random.nextInt(length - i);
+            char tmp = destination[offset + i];
+            destination[offset + i] = destination[offset + j];
+            destination[offset + j] = tmp;
+        }
+    }
+
+    /**
+     * Computes a lower bound of the entropy of a secret: the required characters contribute the
+     * entropy of their groups and every other character that of the whole alphabet. Their random
+     * positions add a little more, which is not counted.
+     *
+     * @param length secret length
+     * @return entropy in bits
+     */
+    public double entropyBits(int length) {
+        checkLength(length);
+        double bits = 0;
+        int required = 0;
+        for (int group = 0; group < groups.length; group++) {
+            bits += policy.minimum(group) * log2(groups[group].length);
+            required += policy.minimum(group);
+        }
+        return bits + (length - required) * log2(alphabet.length);
+    }
+
+    /**
+     * Gets the number of distinct characters a free position is drawn from.
+     *
+     * @return alphabet size
+     */
+    public int alphabetSize() {
+        return alphabet.length;
+    }
+
+    /**
+     * Checks that a length is within the long-secret range and covers the group minimums.
+     *
+     * @param length requested length
+     */
+    private void checkLength(int length) {
+        int min = Math.max(PasswordSizeNumbers.LONG_MIN_LENGTH.getValue(), policy.requiredCount());
+        int max = PasswordSizeNumbers.LONG_MAX_LENGTH.getValue();
+        if (length < min || length > max) {
+            throw new PasswordGenerationException(String.format(
+                    "Invalid secret length: %d. Allowed range is [%d-%d].", length, min, max),
+                    FailureCause.INVALID_LENGTH);
+        }
+    }
+
+    /**
+     * Computes a base-2 logarithm.
+     *
+     * @param value positive value
+     * @return logarithm
+     */
+    private static double log2(int value) {
+        return Math.log(value) / Math.log(2);
+    }
+}
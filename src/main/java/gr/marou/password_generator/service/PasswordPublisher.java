@@ -0,0 +1,237 @@
+package gr.marou.password_generator.service;
+
+import gr.marou.password_generator.exception.PasswordGenerationException;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link Flow.Publisher} of passwords generated on demand by a {@link PasswordService}.
+ * <p>
+ * Every subscriber gets its own subscription and its own passwords. Nothing is generated before it
+ * is requested: passwords are produced in batches of at most {@code batchSize}, and never more
+ * than the passwords still to be emitted, so at most one batch is held per subscription. Signals
+ * to a subscriber are serialized on the executor and never run inside {@code request} or
+ * {@code cancel}. Cancelling drops the held batch and stops generation.
+ */
+public final class PasswordPublisher implements Flow.Publisher<String> {
+
+    /** Default number of passwords generated at a time. */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    /** Service generating the passwords. */
+    private final PasswordService passwordService;
+    /** Length of every password. */
+    private final int length;
+    /** Number of passwords emitted per subscription before completing. */
+    private final long count;
+    /** Number of passwords generated at a time. */
+    private final int batchSize;
+    /** Executor running the delivery of each subscription. */
+    private final Executor executor;
+
+    /**
+     * Creates a publisher.
+     *
+     * @param passwordService service generating the passwords
+     * @param length          password length
+     * @param count           passwords per subscription, {@link Long#MAX_VALUE} for an endless stream
+     * @param batchSize       number of passwords generated at a time
+     * @param executor        executor running the delivery of each subscription
+     */
+    public PasswordPublisher(PasswordService passwordService, int length, long count, int batchSize, Executor executor) {
+        if (passwordService == null || executor == null) {
+            throw new PasswordGenerationException("Password service and executor must not be null.");
+        }
+        if (count < 1 || batchSize < 1) {
+            throw new PasswordGenerationException("Password count and batch size must be at least 1.");
+        }
+        this.passwordService = passwordService;
+        this.length = length;
+        this.count = count;
+        this.batchSize = batchSize;
+        this.executor = executor;
+    }
+
+    /**
+     * Creates an endless publisher delivering on virtual threads.
+     *
+     * @param passwordService service generating the passwords
+     * @param length          password length
+     * @return publisher
+     */
+    public static PasswordPublisher of(PasswordService passwordService, int length) {
+        return of(passwordService, length, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates a publisher completing after {@code count} passwords, delivering on virtual threads.
+     *
+     * @param passwordService service generating the passwords
+     * @param length          password length
+     * @param count           passwords per subscription
+     * @return publisher
+     */
+    public static PasswordPublisher of(PasswordService passwordService, int length, long count) {
+        return new PasswordPublisher(passwordService, length, count, DEFAULT_BATCH_SIZE,
+                task -> Thread.ofVirtual().name("password-publisher").start(task));
+    }
+
+    /**
+     * Subscribes a subscriber; it receives {@code onSubscribe} on the calling thread.
+     *
+     * @param subscriber subscriber
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super String> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("Subscriber must not be null.");
+        }
+        subscriber.onSubscribe(new PasswordSubscription(subscriber));
+    }
+
+    /**
+     * Demand-driven delivery to one subscriber.
+     * <p>
+     * {@code request} and {@code cancel} only update atomics and schedule {@link #drain()}; the
+     * work-in-progress counter ensures a single drain runs at a time and re-checks any signal that
+     * arrived while it was running.
+     */
+    private final class PasswordSubscription implements Flow.Subscription {
+
+        /** Receiver of the passwords. */
+        private final Flow.Subscriber<? super String> subscriber;
+        /** Outstanding demand, {@link Long#MAX_VALUE} meaning unbounded. */
+        private final AtomicLong requested = new AtomicLong();
+        /** Number of pending drain requests. */
+        private final AtomicInteger pending = new AtomicInteger();
+        /** Passwords still to be emitted; only touched by the drain. */
+        private long remaining = count;
+        /** Current batch; only touched by the drain. */
+        private List<String> batch = List.of();
+        /** Next index in the current batch; only touched by the drain. */
+        private int index;
+        /** Invalid request to report, or null. */
+        private volatile Throwable invalidRequest;
+        /** Whether the subscription was cancelled or terminated. */
+        private volatile boolean cancelled;
+
+        /**
+         * Creates a subscription for a subscriber.
+         *
+         * @param subscriber receiver of the passwords
+         */
+        private PasswordSubscription(Flow.Subscriber<? super String> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        /**
+         * Adds demand; a non-positive request fails the subscription as the Flow contract requires.
+         *
+         * @param n number of additional passwords
+         */
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("Requested password count must be positive, got " + n + ".");
+            } else {
+                requested.getAndAccumulate(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            }
+            schedule();
+        }
+
+        /**
+         * Stops delivery; the held batch is dropped by the next drain.
+         */
+        @Override
+        public void cancel() {
+            cancelled = true;
+            schedule();
+        }
+
+        /**
+         * Runs a drain unless one is already running.
+         */
+        private void schedule() {
+            if (pending.getAndIncrement() == 0) {
+                executor.execute(this::drain);
+            }
+        }
+
+        /**
+         * Emits passwords while there is demand, then completes once every password was emitted.
+         */
+        private void drain() {
+            int missed = 1;
+            while (true) {
+                long demand = requested.get();
+                long emitted = 0;
+                while (emitted != demand && remaining != 0 && !isTerminated()) {
+                    if (index == batch.size() && !refill()) {
+                        return;
+                    }
+                    String password = batch.get(index++);
+                    remaining--;
+                    emitted++;
+                    subscriber.onNext(password);
+                }
+                if (isTerminated()) {
+                    batch = List.of();
+                    return;
+                }
+                if (remaining == 0) {
+                    cancelled = true;
+                    batch = List.of();
+                    subscriber.onComplete();
+                    return;
+                }
+                if (emitted != 0 && demand != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+                missed = pending.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Checks for cancellation and reports an invalid request.
+         *
+         * @return true if nothing more may be signalled
+         */
+        private boolean isTerminated() {
+            if (cancelled) {
+                return true;
+            }
+            Throwable failure = invalidRequest;
+            if (failure != null) {
+                cancelled = true;
+                subscriber.onError(failure);
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Generates the next batch, failing the subscription if generation fails.
+         *
+         * @return true if a batch is ready
+         */
+        private boolean refill() {
+            try {
+                batch = passwordService.generatePasswords(length, (int) Math.min(batchSize, remaining)).passwords();
+                index = 0;
+                return true;
+            } catch (RuntimeException e) {
+                cancelled = true;
+                batch = List.of();
+                subscriber.onError(e);
+                return false;
+            }
+        }
+    }
+}
@@ -1,9 +1,20 @@
 package gr.marou.password_generator.service;
 
+import gr.marou.password_generator.model.dto.PasswordBatchDTO;
+import gr.marou.password_generator.model.dto.ThroughputSampleDTO;
 import gr.marou.password_generator.model.enums.StrengthLevel;
+import gr.marou.password_generator.policy.PasswordPolicy;
+import gr.marou.password_generator.policy.PolicyDescriptor;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.List;
 
 /**
  * Interface defining password generation and evaluation operations.
+ * <p>
+ * Implementations are thread-safe: a single instance may be shared by any number of
+ * concurrent callers, and no call blocks another except for contention on the random source.
  */
 public interface PasswordService {
 
@@ -15,6 +26,95 @@ public interface PasswordService {
      */
     String generatePassword(Integer length);
 
+    /**
+     * Generates a password of the given length following a precompiled policy.
+     *
+     * @param policy generation policy
+     * @param length desired password length
+     * @return generated password
+     */
+    String generatePassword(PasswordPolicy policy, Integer length);
+
+    /**
+     * Generates a password of the given length following the policy of a descriptor, compiling
+     * the policy only the first time it is seen.
+     *
+     * @param descriptor policy descriptor
+     * @param length     desired password length
+     * @return generated password
+     */
+    String generatePassword(PolicyDescriptor descriptor, Integer length);
+
+    /**
+     * Writes a password of the given length into a caller-owned array, creating no {@code String}.
+     * Internal scratch copies are wiped before returning; wiping the destination is up to the caller.
+     *
+     * @param destination array receiving the password
+     * @param offset      index of the first password character
+     * @param length      desired password length
+     */
+    void generateInto(char[] destination, int offset, Integer length);
+
+    /**
+     * Writes a password of the given length following a precompiled policy into a caller-owned
+     * array, creating no {@code String}. Internal scratch copies are wiped before returning.
+     *
+     * @param destination array receiving the password
+     * @param offset      index of the first password character
+     * @param policy      generation policy
+     * @param length      desired password length
+     */
+    void generateInto(char[] destination, int offset, PasswordPolicy policy, Integer length);
+
+    /**
+     * Writes a password of the given length at the position of a heap or direct buffer and
+     * advances the position. Internal scratch copies are wiped before returning.
+     *
+     * @param destination buffer with at least {@code length} characters remaining
+     * @param length      desired password length
+     */
+    void generateInto(CharBuffer destination, Integer length);
+
+    /**
+     * Writes a password of the given length as UTF-8 at the position of a heap or direct buffer
+     * and advances the position. Internal scratch copies are wiped before returning.
+     *
+     * @param destination buffer with room for the encoded password
+     * @param length      desired password length, in characters
+     * @return number of bytes written
+     */
+    int generateInto(ByteBuffer destination, Integer length);
+
+    /**
+     * Generates a batch of passwords of the given length in one call.
+     *
+     * @param length desired password length
+     * @param count  number of passwords to generate
+     * @return generated passwords with the batch throughput
+     */
+    PasswordBatchDTO generatePasswords(Integer length, Integer count);
+
+    /**
+     * Generates a batch of passwords across several worker threads.
+     * <p>
+     * Passwords are returned in a stable order regardless of how the work was split.
+     *
+     * @param length      desired password length
+     * @param count       number of passwords to generate
+     * @param parallelism number of worker threads
+     * @return generated passwords with the batch throughput
+     */
+    PasswordBatchDTO generatePasswordsParallel(Integer length, Integer count, Integer parallelism);
+
+    /**
+     * Measures parallel generation throughput at 1, 2, 4 ... threads up to the available processors.
+     *
+     * @param length password length
+     * @param count  number of passwords generated per sample
+     * @return one sample per thread count, in increasing order
+     */
+    List<ThroughputSampleDTO> measureParallelScaling(Integer length, Integer count);
+
     /**
      * Gets the default password length.
      *
@@ -1,29 +1,94 @@
 package gr.marou.password_generator.service;
 
+import gr.marou.password_generator.engine.AlphabetState;
 import gr.marou.password_generator.exception.PasswordGenerationException;
-import gr.marou.password_generator.model.dto.PasswordOptionsDTO;
+import gr.marou.password_generator.metrics.GeneratorMetrics;
+import gr.marou.password_generator.model.dto.PasswordBatchDTO;
+import gr.marou.password_generator.model.dto.ThroughputSampleDTO;
+import gr.marou.password_generator.model.enums.FailureCause;
 import gr.marou.password_generator.model.enums.StrengthLevel;
-import gr.marou.password_generator.util.PasswordOptionsUtils;
+import gr.marou.password_generator.model.dto.PolicyCacheStatsDTO;
+import gr.marou.password_generator.policy.PasswordPolicy;
+import gr.marou.password_generator.policy.PolicyCache;
+import gr.marou.password_generator.policy.PolicyDescriptor;
+import gr.marou.password_generator.random.EntropyBuffer;
+import gr.marou.password_generator.random.RandomSource;
+import gr.marou.password_generator.util.PasswordBreachChecker;
+import gr.marou.password_generator.util.PasswordStrengthUtils;
+import gr.marou.password_generator.util.Utf8Utils;
 
+import java.io.Serial;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Service implementation for generating and evaluating passwords.
  */
 public class PasswordServiceImpl extends BaseService implements PasswordService{
 
-    /** Holds the available character groups. */
-    private final PasswordOptionsDTO characterOptions;
+    /** Smallest number of passwords a parallel leaf task generates. */
+    private static final int MIN_TASK_SIZE = 1024;
+    /** Leaf tasks created per worker thread, to let work stealing balance the load. */
+    private static final int TASKS_PER_THREAD = 4;
+    /** Attempts made to generate a password absent from the breach corpus. */
+    private static final int MAX_BREACH_ATTEMPTS = 16;
+    /** Passwords generated before a scaling report starts measuring. */
+    private static final int WARM_UP_PASSWORDS = 20_000;
+    /** Entropy source of each fork-join worker, seeded once per worker thread. */
+    private static final ThreadLocal<EntropyBuffer> WORKER_ENTROPY = ThreadLocal.withInitial(EntropyBuffer::new);
+
+    /** Compiled policies, shared by every tenant of this service. */
+    private final PolicyCache policyCache;
+    /** Policy used when none is given, resolved once so plain requests never touch the cache. */
+    private final PasswordPolicy defaultPolicy;
+    /** Breach corpus checked before a password is issued, or null to skip the check. */
+    private final PasswordBreachChecker breachChecker;
+    /** Hot-path metrics, recorded only while enabled. */
+    private final GeneratorMetrics metrics = GeneratorMetrics.get();
+    /** Per-thread buffers reused by the {@code generateInto} methods, wiped after every password. */
+    private final ThreadLocal<GenerationBuffers> scratchBuffers = new ThreadLocal<>();
+    /** Fork-join pools of the parallel batches, one per parallelism level, reused across calls. */
+    private final Map<Integer, ForkJoinPool> parallelPools = new ConcurrentHashMap<>();
 
     /**
-     * Constructs the password service with predefined character sets.
+     * Constructs the password service with the default policy built from the predefined character sets.
      */
     public PasswordServiceImpl() {
-        this.characterOptions = PasswordOptionsUtils.createDTOFromEnum();
-        validateCharacterOptions(characterOptions);
+        this(null);
+    }
+
+    /**
+     * Constructs the password service, regenerating any password found in the breach corpus.
+     *
+     * @param breachChecker breach corpus to check against, or null to skip the check
+     */
+    public PasswordServiceImpl(PasswordBreachChecker breachChecker) {
+        this(new PolicyCache(), PolicyDescriptor.defaults(), breachChecker);
+    }
+
+    /**
+     * Constructs the password service on a policy cache.
+     *
+     * @param policyCache       cache of compiled policies
+     * @param defaultDescriptor descriptor of the policy used when none is given
+     * @param breachChecker     breach corpus to check against, or null to skip the check
+     */
+    public PasswordServiceImpl(PolicyCache policyCache, PolicyDescriptor defaultDescriptor,
+                               PasswordBreachChecker breachChecker) {
+        if (policyCache == null || defaultDescriptor == null) {
+            throw new PasswordGenerationException("Password policy must not be null.");
+        }
+        this.policyCache = policyCache;
+        // Resolved eagerly so an invalid default policy fails here rather than on first use
+        this.defaultPolicy = policyCache.get(defaultDescriptor);
+        this.breachChecker = breachChecker;
     }
 
     /**
@@ -47,140 +112,499 @@ public class PasswordServiceImpl extends BaseService implements PasswordService{
      */
     @Override
     public String generatePassword(Integer length) {
-        if (length == null || length < 4) {
-            throw new PasswordGenerationException("Password length must be at least 4 to include all required character types.");
+        try {
+            return generateOne(defaultPolicy, length);
+        } catch (PasswordGenerationException e) {
+            throw recordFailure(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String generatePassword(PolicyDescriptor descriptor, Integer length) {
+        try {
+            return generateOne(policyCache.get(descriptor), length);
+        } catch (PasswordGenerationException e) {
+            throw recordFailure(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String generatePassword(PasswordPolicy policy, Integer length) {
+        try {
+            return generateOne(policy, length);
+        } catch (PasswordGenerationException e) {
+            throw recordFailure(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void generateInto(char[] destination, int offset, Integer length) {
+        try {
+            writeInto(destination, offset, defaultPolicy, length);
+        } catch (PasswordGenerationException e) {
+            throw recordFailure(e);
         }
-        checkGlobalCharacterLimit(length);
-        // Keep track of used digits
-        Set<Character> usedChars = new HashSet<>();
-        //Add one character from each group as a starting point
-        List<Character> passwordChars = initializePassword(usedChars);
-        // Get all character groups as final list to rotate
-        List<List<Character>> groups = getCharacterGroups();
-        // Proceed to construct the final password, cycle threw the groups and pick a random char from each.
-        fillRemainingCharacters(passwordChars, usedChars, groups, length);
-        // Shuffle password characters
-        shuffle(passwordChars);
-        // Return final password string
-        return buildPasswordString(passwordChars);
     }
 
     /**
-     * Validates character groups for non-emptiness.
+     * {@inheritDoc}
+     */
+    @Override
+    public void generateInto(char[] destination, int offset, PasswordPolicy policy, Integer length) {
+        try {
+            writeInto(destination, offset, policy, length);
+        } catch (PasswordGenerationException e) {
+            throw recordFailure(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void generateInto(CharBuffer destination, Integer length) {
+        try {
+            GenerationBuffers buffers = scratch(defaultPolicy, length);
+            if (destination == null || destination.isReadOnly() || destination.remaining() < length) {
+                throw new PasswordGenerationException("Destination buffer is too small for the password.");
+            }
+            try {
+                generateChars(length, buffers);
+                destination.put(buffers.passwordChars, 0, length);
+            } finally {
+                wipe(buffers, length);
+            }
+        } catch (PasswordGenerationException e) {
+            throw recordFailure(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int generateInto(ByteBuffer destination, Integer length) {
+        try {
+            GenerationBuffers buffers = scratch(defaultPolicy, length);
+            if (destination == null || destination.isReadOnly()) {
+                throw new PasswordGenerationException("Destination buffer must be writable.");
+            }
+            try {
+                generateChars(length, buffers);
+                int bytes = Utf8Utils.encodedLength(buffers.passwordChars, 0, length);
+                if (destination.remaining() < bytes) {
+                    throw new PasswordGenerationException("Destination buffer is too small for the password.");
+                }
+                Utf8Utils.encode(buffers.passwordChars, 0, length, destination);
+                return bytes;
+            } finally {
+                wipe(buffers, length);
+            }
+        } catch (PasswordGenerationException e) {
+            throw recordFailure(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Validation and the working buffers are shared by every password of the batch.
+     */
+    @Override
+    public PasswordBatchDTO generatePasswords(Integer length, Integer count) {
+        try {
+            PasswordPolicy policy = defaultPolicy;
+            policy.checkLength(length);
+            if (count == null || count < 1) {
+                throw new PasswordGenerationException("Password count must be at least 1.");
+            }
+
+            long start = System.nanoTime();
+            GenerationBuffers buffers = new GenerationBuffers(policy, length, random);
+            List<String> passwords = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                passwords.add(generate(length, buffers));
+            }
+            return new PasswordBatchDTO(passwords, System.nanoTime() - start);
+        } catch (PasswordGenerationException e) {
+            throw recordFailure(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The batch is split into fork-join tasks run on a pool kept for this parallelism level, so
+     * repeated batches reuse the same workers. Every leaf task owns its buffers and draws from the
+     * independently seeded {@link EntropyBuffer} of its worker, so workers never share a random
+     * source. Idle workers exit after the pool's keep-alive time.
+     */
+    @Override
+    public PasswordBatchDTO generatePasswordsParallel(Integer length, Integer count, Integer parallelism) {
+        try {
+            PasswordPolicy policy = defaultPolicy;
+            policy.checkLength(length);
+            if (count == null || count < 1) {
+                throw new PasswordGenerationException("Password count must be at least 1.");
+            }
+            if (parallelism == null || parallelism < 1) {
+                throw new PasswordGenerationException("Parallelism must be at least 1.");
+            }
+
+            String[] passwords = new String[count];
+            int threshold = Math.max(MIN_TASK_SIZE, count / (parallelism * TASKS_PER_THREAD));
+            ForkJoinPool pool = parallelPools.computeIfAbsent(parallelism, ForkJoinPool::new);
+            long start = System.nanoTime();
+            pool.invoke(new GenerationTask(policy, length, passwords, 0, count, threshold));
+            return new PasswordBatchDTO(Arrays.asList(passwords), System.nanoTime() - start);
+        } catch (PasswordGenerationException e) {
+            throw recordFailure(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<ThroughputSampleDTO> measureParallelScaling(Integer length, Integer count) {
+        int processors = Runtime.getRuntime().availableProcessors();
+        List<ThroughputSampleDTO> samples = new ArrayList<>();
+        // Warm up the generation path so the single-threaded sample is not measured cold
+        generatePasswordsParallel(length, Math.min(count == null ? 0 : count, WARM_UP_PASSWORDS), processors);
+        for (int threads = 1; ; threads = Math.min(threads * 2, processors)) {
+            PasswordBatchDTO batch = generatePasswordsParallel(length, count, threads);
+            samples.add(new ThroughputSampleDTO(threads, batch.count(), batch.elapsedNanos()));
+            if (threads == processors) break;
+        }
+        return samples;
+    }
+
+    /**
+     * Gets the statistics of the policy cache.
+     *
+     * @return cache hit, miss and eviction counts
+     */
+    public PolicyCacheStatsDTO getPolicyCacheStats() {
+        return policyCache.stats();
+    }
+
+    /**
+     * Validates the request and generates one password with fresh buffers.
      *
-     * @param dto character options DTO
+     * @param policy generation policy
+     * @param length desired password length
+     * @return generated password
      */
-    private void validateCharacterOptions(PasswordOptionsDTO dto) {
-        if (dto.numbers().isEmpty() || dto.lowercaseLetters().isEmpty() ||
-                dto.uppercaseLetters().isEmpty() || dto.specialCharacters().isEmpty()) {
-            throw new PasswordGenerationException("Character groups must not be empty.");
+    private String generateOne(PasswordPolicy policy, Integer length) {
+        if (policy == null) {
+            throw new PasswordGenerationException("Password policy must not be null.");
         }
+        policy.checkLength(length);
+        return generate(length, new GenerationBuffers(policy, length, random));
     }
 
     /**
-     * Adds one unique character from each group to start the password.
+     * Generates a password in the scratch buffers and copies it into an array.
      *
-     * @param usedChars the set of characters already used
-     * @return the initial list of characters
+     * @param destination array receiving the password
+     * @param offset      index of the first password character
+     * @param policy      generation policy
+     * @param length      desired password length
      */
-    private List<Character> initializePassword(Set<Character> usedChars) {
-        if (usedChars == null) {
-            throw new PasswordGenerationException("Used character set cannot be null.");
+    private void writeInto(char[] destination, int offset, PasswordPolicy policy, Integer length) {
+        GenerationBuffers buffers = scratch(policy, length);
+        if (destination == null || offset < 0 || offset > destination.length - length) {
+            throw new PasswordGenerationException("Destination array is too small for the password.");
+        }
+        try {
+            generateChars(length, buffers);
+            System.arraycopy(buffers.passwordChars, 0, destination, offset, length);
+        } finally {
+            wipe(buffers, length);
+        }
+    }
+
+    /**
+     * Validates the request and gets the calling thread's scratch buffers, reallocating them only
+     * when the policy changes or the password is longer than any before.
+     *
+     * @param policy generation policy
+     * @param length desired password length
+     * @return scratch buffers, wiped
+     */
+    private GenerationBuffers scratch(PasswordPolicy policy, Integer length) {
+        if (policy == null) {
+            throw new PasswordGenerationException("Password policy must not be null.");
+        }
+        policy.checkLength(length);
+        GenerationBuffers buffers = scratchBuffers.get();
+        if (buffers == null || buffers.policy != policy || buffers.passwordChars.length < length) {
+            buffers = new GenerationBuffers(policy, length, random);
+            scratchBuffers.set(buffers);
+        }
+        return buffers;
+    }
+
+    /**
+     * Clears the password characters and the used-character state left in scratch buffers.
+     *
+     * @param buffers scratch buffers
+     * @param length  number of password characters written
+     */
+    private static void wipe(GenerationBuffers buffers, int length) {
+        Arrays.fill(buffers.passwordChars, 0, length, '\0');
+        buffers.alphabetState.reset();
+    }
+
+    /**
+     * Counts a failed request in the metrics.
+     *
+     * @param e failure
+     * @return the same failure, to rethrow
+     */
+    private PasswordGenerationException recordFailure(PasswordGenerationException e) {
+        if (metrics.isEnabled()) {
+            metrics.recordFailure(e.getFailureCause());
+        }
+        return e;
+    }
+
+    /**
+     * Generates a single password reusing the given buffers.
+     *
+     * @param length  desired password length, already validated
+     * @param buffers working buffers, reset before use
+     * @return generated password
+     */
+    private String generate(int length, GenerationBuffers buffers) {
+        generateChars(length, buffers);
+        // Return final password string
+        return buildPasswordString(buffers.passwordChars, length);
+    }
+
+    /**
+     * Generates a single password into the password buffer, regenerating it while it appears
+     * in the breach corpus.
+     * <p>
+     * While metrics are enabled, the latency, character picks and rejections, and the strength
+     * of the issued password are recorded once per password rather than per character. The
+     * strength is computed without recording an evaluation, so a caller evaluating the password
+     * afterwards is the only evaluation counted.
+     *
+     * @param length  desired password length, already validated
+     * @param buffers working buffers, reset before use
+     */
+    private void generateChars(int length, GenerationBuffers buffers) {
+        boolean measured = metrics.isEnabled();
+        long start = measured ? System.nanoTime() : 0;
+        char[] passwordChars = buffers.passwordChars;
+        int attempt = 1;
+        for (; ; attempt++) {
+            fill(length, buffers);
+            if (breachChecker == null || !breachChecker.isBreached(passwordChars, 0, length)) break;
+            if (attempt == MAX_BREACH_ATTEMPTS) {
+                throw new PasswordGenerationException(String.format(
+                        "Could not generate a password absent from the breach corpus after %d attempts.", attempt),
+                        FailureCause.BREACH_RETRIES_EXHAUSTED);
+            }
+        }
+        long rejectedPicks = buffers.alphabetState.drainRejections();
+        if (measured) {
+            metrics.recordGeneration(System.nanoTime() - start, (long) length * attempt, rejectedPicks,
+                    attempt - 1, PasswordStrengthUtils.evaluateUnrecorded(passwordChars, 0, length));
         }
-        List<Character> result = new ArrayList<>();
-        result.add(getUniqueCharFromGroup(characterOptions.numbers(), usedChars));
-        result.add(getUniqueCharFromGroup(characterOptions.lowercaseLetters(), usedChars));
-        result.add(getUniqueCharFromGroup(characterOptions.uppercaseLetters(), usedChars));
-        result.add(getUniqueCharFromGroup(characterOptions.specialCharacters(), usedChars));
-        return result;
     }
 
     /**
-     * Gets all character groups (number, lower, upper, special) as a list.
+     * Fills the password buffer with a new shuffled password.
+     *
+     * @param length  desired password length, already validated
+     * @param buffers working buffers, reset before use
+     */
+    private void fill(int length, GenerationBuffers buffers) {
+        RandomSource source = buffers.random;
+        // Keep track of used digits
+        AlphabetState usedChars = buffers.alphabetState;
+        usedChars.reset();
+        char[] passwordChars = buffers.passwordChars;
+        //Add the required characters from each group as a starting point
+        int size = initializePassword(buffers.policy, passwordChars, usedChars, source);
+        // Proceed to construct the final password, cycle threw the groups and pick a random char from each.
+        fillRemainingCharacters(passwordChars, size, usedChars, length, source);
+        // Shuffle password characters
+        shuffle(passwordChars, length, source);
+    }
+
+    /**
+     * Adds the required number of characters from each group to start the password.
      *
-     * @return list of character groups
+     * @param policy    the generation policy
+     * @param result    the array receiving the initial characters
+     * @param usedChars the characters already used
+     * @param source    random source to draw from
+     * @return the number of characters added
      */
-    private List<List<Character>> getCharacterGroups() {
-        return List.of(
-                characterOptions.numbers(),
-                characterOptions.lowercaseLetters(),
-                characterOptions.uppercaseLetters(),
-                characterOptions.specialCharacters()
-        );
+    private int initializePassword(PasswordPolicy policy, char[] result, AlphabetState usedChars, RandomSource source) {
+        if (usedChars == null) {
+            throw new PasswordGenerationException("Used character set cannot be null.");
+        }
+        int size = 0;
+        int groups = policy.alphabet().groupCount();
+        for (int group = 0; group < groups; group++) {
+            for (int i = policy.minimum(group); i > 0; i--) {
+                char c = getUniqueCharFromGroup(group, usedChars, source);
+                result[size++] = c;
+                usedChars.markUsed(c);
+            }
+        }
+        return size;
     }
 
     /**
      * Fills the password to the desired length by rotating through character groups.
      *
      * @param passwordChars current password characters
-     * @param usedChars     set of characters already used
-     * @param groups        character groups to use
+     * @param size          number of characters already placed
+     * @param usedChars     the characters already used
      * @param desiredLength the final desired length of the password
+     * @param source        random source to draw from
      */
-    private void fillRemainingCharacters(List<Character> passwordChars,
-                                         Set<Character> usedChars,
-                                         List<List<Character>> groups,
-                                         int desiredLength) {
+    private void fillRemainingCharacters(char[] passwordChars,
+                                         int size,
+                                         AlphabetState usedChars,
+                                         int desiredLength,
+                                         RandomSource source) {
+        int groups = usedChars.groupCount();
         int groupIndex = 0;
-        while (passwordChars.size() < desiredLength) {
-            List<Character> currentGroup = groups.get(groupIndex % groups.size());
-            char nextChar = getUniqueCharFromGroup(currentGroup, usedChars);
-            passwordChars.add(nextChar);
-            usedChars.add(nextChar);
+        while (size < desiredLength) {
+            char nextChar = getUniqueCharFromGroup(groupIndex % groups, usedChars, source);
+            passwordChars[size++] = nextChar;
+            usedChars.markUsed(nextChar);
             groupIndex++;
         }
     }
 
     /**
-     * Builds the final password string from the character list.
+     * Builds the final password string from the character array.
      *
-     * @param characters the list of characters
+     * @param characters the password characters
+     * @param length     number of characters to use
      * @return the final password string
      */
-    private String buildPasswordString(List<Character> characters) {
-        if (characters == null || characters.isEmpty()) {
+    private String buildPasswordString(char[] characters, int length) {
+        if (characters == null || length == 0) {
             throw new PasswordGenerationException("No characters to build password.");
         }
-        StringBuilder password = new StringBuilder();
-        characters.forEach(password::append);
-        return password.toString();
+        return new String(characters, 0, length);
     }
 
     /**
      * Returns a unique character from a group not in the used set.
+     * <p>
+     * Picks and rejected draws are counted by the state and reported to the metrics once per password.
      *
-     * @param group character group
-     * @param used  already used characters
+     * @param group character group index
+     * @param used   already used characters
+     * @param source random source to draw from
      * @return unique character
      */
-    private char getUniqueCharFromGroup(List<Character> group, Set<Character> used) {
-        List<Character> available = group.stream()
-                .filter(c -> !used.contains(c))
-                .toList();
+    private char getUniqueCharFromGroup(int group, AlphabetState used, RandomSource source) {
+        return used.pick(group, source);
+    }
 
-        if (available.isEmpty()) {
-            throw new PasswordGenerationException("No unique characters left in group.");
-        }
+    /**
+     * Working buffers for a single generation, reusable across a batch.
+     */
+    private static final class GenerationBuffers {
 
-        return available.get(random.nextInt(available.size()));
+        /** Policy the buffers were sized for. */
+        private final PasswordPolicy policy;
+        /** Characters already used in the current password. */
+        private final AlphabetState alphabetState;
+        /** Characters of the current password, in placement order. */
+        private final char[] passwordChars;
+        /** Random source used by the owner of these buffers. */
+        private final RandomSource random;
+
+        /**
+         * Allocates buffers sized for the given policy and password length.
+         *
+         * @param policy generation policy
+         * @param length password length
+         * @param random random source to draw from
+         */
+        private GenerationBuffers(PasswordPolicy policy, int length, RandomSource random) {
+            this.policy = policy;
+            this.alphabetState = policy.alphabet().newState();
+            this.passwordChars = new char[length];
+            this.random = random;
+        }
     }
 
     /**
-     * Checks if the requested length exceeds the total available characters.
-     *
-     * @param desiredLength password length
-     */
-    private void checkGlobalCharacterLimit(int desiredLength) {
-        Set<Character> totalUnique = new HashSet<>();
-        totalUnique.addAll(characterOptions.numbers());
-        totalUnique.addAll(characterOptions.lowercaseLetters());
-        totalUnique.addAll(characterOptions.uppercaseLetters());
-        totalUnique.addAll(characterOptions.specialCharacters());
-
-        if (desiredLength > totalUnique.size()) {
-            throw new PasswordGenerationException(
-                    String.format("Requested password length (%d) exceeds the number of unique characters available (%d).",
-                            desiredLength, totalUnique.size()));
+     * Fork-join task generating the passwords of an index range into a shared result array.
+     */
+    private final class GenerationTask extends RecursiveAction {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        /** Generation policy. */
+        private final transient PasswordPolicy policy;
+        /** Password length. */
+        private final int length;
+        /** Result array, written only at the indices owned by this task. */
+        private final String[] results;
+        /** First index of the range, inclusive. */
+        private final int from;
+        /** Last index of the range, exclusive. */
+        private final int to;
+        /** Range size at or below which the task generates instead of splitting. */
+        private final int threshold;
+
+        /**
+         * Creates a task for the given range.
+         *
+         * @param policy    generation policy
+         * @param length    password length
+         * @param results   result array
+         * @param from      first index, inclusive
+         * @param to        last index, exclusive
+         * @param threshold leaf size
+         */
+        private GenerationTask(PasswordPolicy policy, int length, String[] results, int from, int to, int threshold) {
+            this.policy = policy;
+            this.length = length;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        /**
+         * Splits the range in halves or generates it directly.
+         */
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                GenerationBuffers buffers = new GenerationBuffers(policy, length, WORKER_ENTROPY.get());
+                for (int i = from; i < to; i++) {
+                    results[i] = generate(length, buffers);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new GenerationTask(policy, length, results, from, middle, threshold),
+                    new GenerationTask(policy, length, results, middle, to, threshold));
         }
     }
 }
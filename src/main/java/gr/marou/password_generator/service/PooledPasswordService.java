@@ -0,0 +1,489 @@
+package gr.marou.password_generator.service;
+
+import gr.marou.password_generator.exception.PasswordGenerationException;
+import gr.marou.password_generator.model.dto.PasswordBatchDTO;
+import gr.marou.password_generator.model.dto.PasswordPoolStatsDTO;
+import gr.marou.password_generator.model.dto.ThroughputSampleDTO;
+import gr.marou.password_generator.model.enums.StrengthLevel;
+import gr.marou.password_generator.policy.PasswordPolicy;
+import gr.marou.password_generator.policy.PolicyCache;
+import gr.marou.password_generator.policy.PolicyDescriptor;
+import gr.marou.password_generator.util.RingBuffer;
+import gr.marou.password_generator.util.Utf8Utils;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link PasswordService} decorator serving single passwords from pools generated ahead of time.
+ * <p>
+ * One {@link RingBuffer} of password characters is kept per (policy descriptor, length)
+ * combination, created the first time the combination is requested, so a policy compiled again
+ * after a cache eviction reuses its ring. At most {@link #DEFAULT_MAX_POOLS} rings are kept; the
+ * least recently used one is retired and wiped to make room. A background producer tops a ring up to the high
+ * watermark whenever it drops to the low watermark, so a take is usually a single lock-free pop.
+ * When a ring is empty the password is generated inline instead. Every pooled password is handed
+ * out at most once, and the pooled characters are wiped by {@link #close()}.
+ * <p>
+ * Batch generation and strength evaluation go straight to the delegate.
+ */
+public final class PooledPasswordService implements PasswordService, AutoCloseable {
+
+    /** Default ring capacity per key. */
+    public static final int DEFAULT_CAPACITY = 1024;
+    /** Default ready count at or below which a ring is refilled. */
+    public static final int DEFAULT_LOW_WATERMARK = 256;
+    /** Default number of rings kept at once. */
+    public static final int DEFAULT_MAX_POOLS = 64;
+    /** Longest password any policy can allow, as no policy repeats a character. */
+    private static final int MAX_POLICY_LENGTH = Character.MAX_VALUE + 1;
+    /** Time the producer sleeps between checks when nobody signals it. */
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    /** Service generating the passwords. */
+    private final PasswordService delegate;
+    /** Compiled policies for descriptor requests. */
+    private final PolicyCache policyCache;
+    /** Ready count at or below which a ring is refilled. */
+    private final int lowWatermark;
+    /** Ready count a refill stops at. */
+    private final int highWatermark;
+    /** Rings per (policy descriptor, length) combination. */
+    private final Map<PoolKey, Pool> pools = new ConcurrentHashMap<>();
+    /** Number of rings kept at once. */
+    private final int maxPools;
+    /** Logical clock ordering the takes, for retiring the least recently used ring. */
+    private final AtomicLong clock = new AtomicLong();
+    /** Background thread refilling the rings. */
+    private final Thread producer;
+    /** Passwords served from a ring. */
+    private final LongAdder hits = new LongAdder();
+    /** Passwords generated inline. */
+    private final LongAdder misses = new LongAdder();
+    /** Passwords generated by the producer. */
+    private final LongAdder produced = new LongAdder();
+    /** Whether {@link #close()} was called. */
+    private volatile boolean closed;
+
+    /**
+     * Creates a pooled service with the default capacity and watermarks.
+     *
+     * @param delegate service generating the passwords
+     */
+    public PooledPasswordService(PasswordService delegate) {
+        this(delegate, new PolicyCache(), DEFAULT_LOW_WATERMARK, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a pooled service keeping at most {@link #DEFAULT_MAX_POOLS} rings and starts its producer.
+     *
+     * @param delegate      service generating the passwords
+     * @param policyCache   cache resolving descriptor requests
+     * @param lowWatermark  ready count at or below which a ring is refilled
+     * @param highWatermark ready count a refill stops at, which also sizes the rings
+     */
+    public PooledPasswordService(PasswordService delegate, PolicyCache policyCache,
+                                 int lowWatermark, int highWatermark) {
+        this(delegate, policyCache, lowWatermark, highWatermark, DEFAULT_MAX_POOLS);
+    }
+
+    /**
+     * Creates a pooled service and starts its producer.
+     *
+     * @param delegate      service generating the passwords
+     * @param policyCache   cache resolving descriptor requests
+     * @param lowWatermark  ready count at or below which a ring is refilled
+     * @param highWatermark ready count a refill stops at, which also sizes the rings
+     * @param maxPools      number of rings kept at once
+     */
+    public PooledPasswordService(PasswordService delegate, PolicyCache policyCache,
+                                 int lowWatermark, int highWatermark, int maxPools) {
+        if (delegate == null || policyCache == null) {
+            throw new PasswordGenerationException("Password service must not be null.");
+        }
+        if (lowWatermark < 0 || highWatermark <= lowWatermark) {
+            throw new PasswordGenerationException("Pool watermarks must satisfy 0 <= low < high.");
+        }
+        if (maxPools < 1) {
+            throw new PasswordGenerationException("At least one pool must be allowed.");
+        }
+        this.maxPools = maxPools;
+        this.delegate = delegate;
+        this.policyCache = policyCache;
+        this.lowWatermark = lowWatermark;
+        this.highWatermark = highWatermark;
+        this.producer = Thread.ofPlatform()
+                .name("password-pool-producer")
+                .daemon()
+                .start(this::produce);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String generatePassword(Integer length) {
+        return take(null, length);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String generatePassword(PasswordPolicy policy, Integer length) {
+        if (policy == null) {
+            throw new PasswordGenerationException("Password policy must not be null.");
+        }
+        return take(policy, length);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String generatePassword(PolicyDescriptor descriptor, Integer length) {
+        return take(policyCache.get(descriptor), length);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The pooled characters are wiped once copied.
+     */
+    @Override
+    public void generateInto(char[] destination, int offset, Integer length) {
+        generateInto(destination, offset, null, length);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The pooled characters are wiped once copied.
+     */
+    @Override
+    public void generateInto(char[] destination, int offset, PasswordPolicy policy, Integer length) {
+        if (destination == null || length == null || offset < 0 || offset > destination.length - length) {
+            throw new PasswordGenerationException("Destination array is too small for the password.");
+        }
+        char[] password = takeChars(policy, length);
+        try {
+            System.arraycopy(password, 0, destination, offset, password.length);
+        } finally {
+            Arrays.fill(password, '\0');
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The pooled characters are wiped once copied.
+     */
+    @Override
+    public void generateInto(CharBuffer destination, Integer length) {
+        if (destination == null || length == null || destination.isReadOnly() || destination.remaining() < length) {
+            throw new PasswordGenerationException("Destination buffer is too small for the password.");
+        }
+        char[] password = takeChars(null, length);
+        try {
+            destination.put(password);
+        } finally {
+            Arrays.fill(password, '\0');
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The pooled characters are wiped once copied, even if they do not fit.
+     */
+    @Override
+    public int generateInto(ByteBuffer destination, Integer length) {
+        if (destination == null || destination.isReadOnly()) {
+            throw new PasswordGenerationException("Destination buffer must be writable.");
+        }
+        char[] password = takeChars(null, length);
+        try {
+            int bytes = Utf8Utils.encodedLength(password, 0, password.length);
+            if (destination.remaining() < bytes) {
+                throw new PasswordGenerationException("Destination buffer is too small for the password.");
+            }
+            Utf8Utils.encode(password, 0, password.length, destination);
+            return bytes;
+        } finally {
+            Arrays.fill(password, '\0');
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PasswordBatchDTO generatePasswords(Integer length, Integer count) {
+        return delegate.generatePasswords(length, count);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PasswordBatchDTO generatePasswordsParallel(Integer length, Integer count, Integer parallelism) {
+        return delegate.generatePasswordsParallel(length, count, parallelism);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<ThroughputSampleDTO> measureParallelScaling(Integer length, Integer count) {
+        return delegate.measureParallelScaling(length, count);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getDefaultLength() {
+        return delegate.getDefaultLength();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StrengthLevel evaluateStrength(String password) {
+        return delegate.evaluateStrength(password);
+    }
+
+    /**
+     * Takes a password as characters the caller owns and should wipe after use.
+     *
+     * @param policy generation policy, or null for the delegate's default policy
+     * @param length desired password length
+     * @return password characters
+     */
+    public char[] takeChars(PasswordPolicy policy, Integer length) {
+        if (closed) {
+            throw new PasswordGenerationException("Password pool is closed.");
+        }
+        PoolKey key = new PoolKey(policy == null ? null : policy.descriptor(), length);
+        Pool pool = pools.get(key);
+        if (pool != null) {
+            pool.lastUsed = clock.incrementAndGet();
+            char[] password = pool.ring.poll();
+            if (password != null) {
+                hits.increment();
+                if (pool.ring.size() <= lowWatermark) {
+                    LockSupport.unpark(producer);
+                }
+                return password;
+            }
+        }
+
+        // Empty or unknown key: generate inline, which also validates the key before it gets a ring
+        misses.increment();
+        char[] password = generate(policy, length);
+        if (pool == null) {
+            addPool(key, policy);
+        }
+        LockSupport.unpark(producer);
+        return password;
+    }
+
+    /**
+     * Gets a snapshot of the pool statistics.
+     *
+     * @return hit, miss and production counts and the ready passwords
+     */
+    public PasswordPoolStatsDTO getPoolStats() {
+        long ready = 0;
+        for (Pool pool : pools.values()) {
+            ready += pool.ring.size();
+        }
+        return new PasswordPoolStatsDTO(hits.sum(), misses.sum(), produced.sum(), ready);
+    }
+
+    /**
+     * Stops the producer and wipes every pooled password.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(producer);
+        try {
+            producer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (Pool pool : pools.values()) {
+            pool.wipe();
+        }
+        pools.clear();
+    }
+
+    /**
+     * Takes a password from the pool of the given key.
+     *
+     * @param policy generation policy, or null for the delegate's default policy
+     * @param length desired password length
+     * @return password
+     */
+    private String take(PasswordPolicy policy, Integer length) {
+        char[] password = takeChars(policy, length);
+        try {
+            return new String(password);
+        } finally {
+            Arrays.fill(password, '\0');
+        }
+    }
+
+    /**
+     * Adds a ring for a validated key, retiring the least recently used ring when the limit is reached.
+     *
+     * @param key    pool key
+     * @param policy generation policy, or null for the delegate's default policy
+     */
+    private void addPool(PoolKey key, PasswordPolicy policy) {
+        synchronized (pools) {
+            if (pools.containsKey(key)) {
+                return;
+            }
+            if (pools.size() >= maxPools) {
+                Map.Entry<PoolKey, Pool> eldest = null;
+                for (Map.Entry<PoolKey, Pool> entry : pools.entrySet()) {
+                    if (eldest == null || entry.getValue().lastUsed < eldest.getValue().lastUsed) {
+                        eldest = entry;
+                    }
+                }
+                pools.remove(eldest.getKey());
+                eldest.getValue().retire();
+            }
+            Pool pool = new Pool(policy, key.length(), new RingBuffer<>(highWatermark));
+            pool.lastUsed = clock.incrementAndGet();
+            pools.put(key, pool);
+        }
+    }
+
+    /**
+     * Generates a password with the delegate, straight into a new array.
+     *
+     * @param policy generation policy, or null for the delegate's default policy
+     * @param length desired password length
+     * @return password characters
+     */
+    private char[] generate(PasswordPolicy policy, Integer length) {
+        if (policy != null) {
+            policy.checkLength(length);
+        }
+        // A length no policy allows gets an empty array; the delegate rejects it before writing
+        boolean possible = length != null && length >= 0 && length <= MAX_POLICY_LENGTH;
+        char[] password = new char[possible ? length : 0];
+        if (policy == null) {
+            delegate.generateInto(password, 0, length);
+        } else {
+            delegate.generateInto(password, 0, policy, length);
+        }
+        return password;
+    }
+
+    /**
+     * Producer loop: refills every ring that dropped to the low watermark, then waits for a signal.
+     */
+    private void produce() {
+        while (!closed) {
+            for (Pool pool : pools.values()) {
+                if (pool.ring.size() <= lowWatermark) {
+                    refill(pool);
+                }
+            }
+            LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+        }
+    }
+
+    /**
+     * Tops a ring up to the high watermark.
+     *
+     * @param pool pool to fill
+     */
+    private void refill(Pool pool) {
+        try {
+            while (!closed && !pool.retired && pool.ring.size() < highWatermark) {
+                char[] password = generate(pool.policy, pool.length);
+                if (!pool.ring.offer(password)) {
+                    Arrays.fill(password, '\0');
+                    return;
+                }
+                produced.increment();
+            }
+        } catch (PasswordGenerationException e) {
+            // Leave the ring as is; takes fall back to inline generation and report the failure
+        } finally {
+            if (pool.retired) {
+                // Retired while refilling: wipe what was added after the retiring thread emptied it
+                pool.wipe();
+            }
+        }
+    }
+
+    /**
+     * Identifies a pool.
+     *
+     * @param descriptor canonical policy descriptor, or null for the delegate's default policy
+     * @param length     password length
+     */
+    private record PoolKey(PolicyDescriptor descriptor, Integer length) {}
+
+    /**
+     * Ring of ready passwords for one key.
+     */
+    private static final class Pool {
+
+        /** Generation policy, or null for the delegate's default policy. */
+        private final PasswordPolicy policy;
+        /** Password length. */
+        private final Integer length;
+        /** Ready passwords. */
+        private final RingBuffer<char[]> ring;
+        /** Clock value of the latest take. */
+        private volatile long lastUsed;
+        /** Whether the pool was removed to make room for another. */
+        private volatile boolean retired;
+
+        /**
+         * Creates a pool.
+         *
+         * @param policy generation policy, or null for the delegate's default policy
+         * @param length password length
+         * @param ring   ring of ready passwords
+         */
+        private Pool(PasswordPolicy policy, Integer length, RingBuffer<char[]> ring) {
+            this.policy = policy;
+            this.length = length;
+            this.ring = ring;
+        }
+
+        /**
+         * Stops refills of this pool and wipes its ready passwords.
+         */
+        private void retire() {
+            retired = true;
+            wipe();
+        }
+
+        /**
+         * Wipes and removes every ready password.
+         */
+        private void wipe() {
+            for (char[] password = ring.poll(); password != null; password = ring.poll()) {
+                Arrays.fill(password, '\0');
+            }
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package gr.marou.password_generator.service;
+
+import gr.marou.password_generator.exception.PasswordGenerationException;
+import gr.marou.password_generator.model.enums.TokenEncoding;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * Generator of random API tokens: random bytes encoded as text, {@code <prefix><body>[_<checksum>]}.
+ * <p>
+ * Unlike {@link PasswordService}, no character set is walked: one call to the secure random
+ * generator fills a reused byte buffer, which is encoded straight into the caller's buffer and
+ * then wiped. The optional checksum is the CRC32 of the prefix and body, in the same encoding,
+ * letting scanners and servers reject mistyped or truncated tokens without a lookup. Apart from
+ * {@link #generate()}, nothing is allocated per token.
+ * <p>
+ * Not thread-safe; use one instance per thread.
+ */
+public final class TokenGenerator {
+
+    /** Default number of random bytes, 256 bits. */
+    public static final int DEFAULT_BYTES = 32;
+    /** Largest number of random bytes. */
+    public static final int MAX_BYTES = 1024;
+    /** Separator written before the checksum. */
+    private static final char CHECKSUM_SEPARATOR = '_';
+    /** Size of the checksum in bytes. */
+    private static final int CHECKSUM_BYTES = 4;
+
+    /** Text encoding. */
+    private final TokenEncoding encoding;
+    /** Prefix written before the body. */
+    private final String prefix;
+    /** Whether a checksum is appended. */
+    private final boolean checksum;
+    /** Random bytes of the current token, wiped after encoding. */
+    private final byte[] randomBytes;
+    /** Big-endian checksum bytes of the current token. */
+    private final byte[] checksumBytes = new byte[CHECKSUM_BYTES];
+    /** Checksum of the current token. */
+    private final CRC32 crc = new CRC32();
+    /** Secure random generator. */
+    private final SecureRandom random = new SecureRandom();
+    /** Characters per token. */
+    private final int tokenLength;
+
+    /**
+     * Creates a generator.
+     *
+     * @param encoding text encoding
+     * @param bytes    random bytes per token, between 1 and {@value #MAX_BYTES}
+     * @param prefix   ASCII prefix such as {@code ptk_}, or an empty string
+     * @param checksum whether to append a CRC32 checksum
+     */
+    public TokenGenerator(TokenEncoding encoding, int bytes, String prefix, boolean checksum) {
+        if (encoding == null) {
+            throw new PasswordGenerationException("Token encoding must not be null.");
+        }
+        if (bytes < 1 || bytes > MAX_BYTES) {
+            throw new PasswordGenerationException(String.format(
+                    "Invalid token size: %d bytes. Allowed range is [1-%d].", bytes, MAX_BYTES));
+        }
+        if (prefix == null || !prefix.chars().allMatch(c -> c > ' ' && c < 0x7F)) {
+            throw new PasswordGenerationException("Token prefix must consist of printable ASCII characters.");
+        }
+        this.encoding = encoding;
+        this.prefix = prefix;
+        this.checksum = checksum;
+        this.randomBytes = new byte[bytes];
+        this.tokenLength = prefix.length() + encoding.encodedLength(bytes)
+                + (checksum ? 1 + encoding.encodedLength(CHECKSUM_BYTES) : 0);
+    }
+
+    /**
+     * Gets the number of characters of every token, which is also its size in bytes.
+     *
+     * @return token length
+     */
+    public int tokenLength() {
+        return tokenLength;
+    }
+
+    /**
+     * Gets the entropy of every token.
+     *
+     * @return entropy in bits
+     */
+    public int entropyBits() {
+        return randomBytes.length * 8;
+    }
+
+    /**
+     * Generates a token as a string.
+     *
+     * @return token
+     */
+    public String generate() {
+        CharBuffer token = CharBuffer.allocate(tokenLength);
+        generateInto(token);
+        return token.flip().toString();
+    }
+
+    /**
+     * Writes a token at the position of a buffer, advancing it by {@link #tokenLength()}.
+     *
+     * @param destination destination with at least {@link #tokenLength()} chars remaining
+     */
+    public void generateInto(CharBuffer destination) {
+        if (destination == null || destination.remaining() < tokenLength) {
+            throw new PasswordGenerationException("Destination buffer is too small for the token.");
+        }
+        crc.reset();
+        for (int i = 0; i < prefix.length(); i++) {
+            char c = prefix.charAt(i);
+            destination.put(c);
+            crc.update(c);
+        }
+        random.nextBytes(randomBytes);
+        encode(randomBytes, destination, null);
+        Arrays.fill(randomBytes, (byte) 0);
+        if (checksum) {
+            destination.put(CHECKSUM_SEPARATOR);
+            encode(checksumBytes(), destination, null);
+        }
+    }
+
+    /**
+     * Writes a token as ASCII at the position of a buffer, advancing it by {@link #tokenLength()}.
+     *
+     * @param destination destination with at least {@link #tokenLength()} bytes remaining
+     */
+    public void generateInto(ByteBuffer destination) {
+        if (destination == null || destination.remaining() < tokenLength) {
+            throw new PasswordGenerationException("Destination buffer is too small for the token.");
+        }
+        crc.reset();
+        for (int i = 0; i < prefix.length(); i++) {
+            char c = prefix.charAt(i);
+            destination.put((byte) c);
+            crc.update(c);
+        }
+        random.nextBytes(randomBytes);
+        encode(randomBytes, null, destination);
+        Arrays.fill(randomBytes, (byte) 0);
+        if (checksum) {
+            destination.put((byte) CHECKSUM_SEPARATOR);
+            encode(checksumBytes(), null, destination);
+        }
+    }
+
+    /**
+     * Gets the big-endian checksum of the prefix and body written so far.
+     *
+     * @return checksum bytes
+     */
+    private byte[] checksumBytes() {
+        int value = (int) crc.getValue();
+        checksumBytes[0] = (byte) (value >>> 24);
+        checksumBytes[1] = (byte) (value >>> 16);
+        checksumBytes[2] = (byte) (value >>> 8);
+        checksumBytes[3] = (byte) value;
+        return checksumBytes;
+    }
+
+    /**
+     * Encodes bytes most significant bit first, zero-filling the last character, into one of two
+     * buffers, updating the checksum with every character written.
+     *
+     * @param source     bytes to encode
+     * @param chars      char destination, or null
+     * @param asciiBytes byte destination, used when {@code chars} is null
+     */
+    private void encode(byte[] source, CharBuffer chars, ByteBuffer asciiBytes) {
+        int bitsPerChar = encoding.bitsPerChar();
+        int mask = (1 << bitsPerChar) - 1;
+        int accumulator = 0;
+        int bits = 0;
+        for (byte b : source) {
+            accumulator = (accumulator << 8) | (b & 0xFF);
+            bits += 8;
+            while (bits >= bitsPerChar) {
+                bits -= bitsPerChar;
+                write(encoding.digit((accumulator >>> bits) & mask), chars, asciiBytes);
+            }
+        }
+        if (bits > 0) {
+            write(encoding.digit((accumulator << (bitsPerChar - bits)) & mask), chars, asciiBytes);
+        }
+    }
+
+    /**
+     * Writes one ASCII character and adds it to the checksum.
+     *
+     * @param c          character
+     * @param chars      char destination, or null
+     * @param asciiBytes byte destination, used when {@code chars} is null
+     */
+    private void write(char c, CharBuffer chars, ByteBuffer asciiBytes) {
+        if (chars != null) {
+            chars.put(c);
+        } else {
+            asciiBytes.put((byte) c);
+        }
+        crc.update(c);
+    }
+}
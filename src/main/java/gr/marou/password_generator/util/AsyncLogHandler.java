@@ -0,0 +1,204 @@
+package gr.marou.password_generator.util;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Formatter;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Logging handler that hands records to a single background writer instead of writing them on
+ * the calling thread.
+ * <p>
+ * {@link #publish(LogRecord)} formats the record and pushes the line onto a lock-free
+ * {@link RingBuffer}; it only waits when the ring is full. The writer thread encodes lines into one
+ * reusable byte buffer and writes it to the channel when the buffer fills or the ring runs dry, so
+ * a burst of records costs one write instead of one write and flush per record.
+ * <p>
+ * Records still buffered are lost if the process exits without {@link #flush()} or
+ * {@link #close()}; see {@link LogUtils#shutdownLogging()}.
+ */
+public final class AsyncLogHandler extends Handler {
+
+    /** Default number of lines the ring can hold. */
+    public static final int DEFAULT_CAPACITY = 8192;
+    /** Size of the write buffer in bytes. */
+    private static final int BUFFER_BYTES = 64 * 1024;
+    /** Time the writer sleeps between checks when nobody signals it. */
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    /** Time {@link #flush()} sleeps between progress checks. */
+    private static final long FLUSH_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    /** Formatted lines waiting to be written. */
+    private final RingBuffer<String> ring;
+    /** Destination of the encoded lines. */
+    private final WritableByteChannel channel;
+    /** Write buffer, only touched by the writer thread. */
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES);
+    /** Line encoder, only touched by the writer thread. */
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+    /** Background writer thread. */
+    private final Thread writer;
+    /** Lines accepted by {@link #publish(LogRecord)}. */
+    private final AtomicLong published = new AtomicLong();
+    /** Lines written to the channel. */
+    private volatile long written;
+    /** Whether the writer is parked waiting for lines. */
+    private volatile boolean idle;
+    /** Whether {@link #close()} was called. */
+    private volatile boolean closed;
+
+    /**
+     * Creates a handler writing to the standard error stream, like a console handler.
+     */
+    public AsyncLogHandler() {
+        this(Channels.newChannel(new FileOutputStream(FileDescriptor.err)), DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a handler writing to the given channel.
+     *
+     * @param channel  destination, owned by the caller and not closed by this handler
+     * @param capacity number of lines the ring can hold
+     */
+    public AsyncLogHandler(WritableByteChannel channel, int capacity) {
+        this.channel = channel;
+        this.ring = new RingBuffer<>(capacity);
+        setLevel(Level.INFO);
+        this.writer = Thread.ofPlatform()
+                .name("async-log-writer")
+                .daemon()
+                .start(this::drain);
+    }
+
+    /**
+     * Formats the record and queues it for the writer; waits only while the ring is full.
+     *
+     * @param record log record
+     */
+    @Override
+    public void publish(LogRecord record) {
+        if (closed || !isLoggable(record)) {
+            return;
+        }
+        Formatter formatter = getFormatter();
+        String line = formatter != null ? formatter.format(record) : record.getMessage() + System.lineSeparator();
+        while (!ring.offer(line)) {
+            LockSupport.unpark(writer);
+            Thread.yield();
+        }
+        published.incrementAndGet();
+        if (idle) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    /**
+     * Blocks until every line published before the call has been written to the channel.
+     */
+    @Override
+    public void flush() {
+        long target = published.get();
+        while (written < target && writer.isAlive()) {
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(this, FLUSH_PARK_NANOS);
+        }
+    }
+
+    /**
+     * Flushes, then stops the writer. Later records are ignored. The channel is left open.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        flush();
+        closed = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writer loop: encodes queued lines into the buffer and writes it out when full or idle.
+     */
+    private void drain() {
+        long encoded = 0;
+        while (true) {
+            String line = ring.poll();
+            if (line == null) {
+                writeBuffer();
+                written = encoded;
+                if (closed && ring.size() == 0) {
+                    return;
+                }
+                idle = true;
+                if (ring.size() == 0) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                idle = false;
+                continue;
+            }
+            encode(line, encoded);
+            encoded++;
+        }
+    }
+
+    /**
+     * Encodes one line into the buffer, writing the buffer out whenever it fills.
+     *
+     * @param line    line to encode
+     * @param encoded lines fully encoded before this one
+     */
+    private void encode(String line, long encoded) {
+        CharBuffer chars = CharBuffer.wrap(line);
+        encoder.reset();
+        while (true) {
+            CoderResult result = encoder.encode(chars, buffer, true);
+            if (result.isOverflow()) {
+                writeBuffer();
+                written = encoded;
+                continue;
+            }
+            if (encoder.flush(buffer).isOverflow()) {
+                writeBuffer();
+                written = encoded;
+                continue;
+            }
+            return;
+        }
+    }
+
+    /**
+     * Writes the buffered bytes to the channel; on failure they are dropped and the error reported.
+     */
+    private void writeBuffer() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            reportError("Could not write log records.", e, ErrorManager.WRITE_FAILURE);
+        } finally {
+            buffer.clear();
+        }
+    }
+}
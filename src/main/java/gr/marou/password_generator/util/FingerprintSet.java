@@ -0,0 +1,371 @@
+package gr.marou.password_generator.util;
+
+import gr.marou.password_generator.exception.PasswordGenerationException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.SecureRandom;
+import java.util.Arrays;
+
+/**
+ * Off-heap set of 64-bit password fingerprints, used to guarantee that no password is issued twice.
+ * <p>
+ * Fingerprints live in an open-addressing table with linear probing, held in direct buffers or in
+ * a memory-mapped file, so the heap does not grow with the number of passwords. The table has
+ * {@value #SLOTS_PER_ENTRY} slots of 8 bytes per allowed entry, a fixed budget of 16 MB per
+ * million entries, and never resizes; adding beyond the capacity fails.
+ * <p>
+ * A fingerprint is a seeded 64-bit hash of the password characters. Equal passwords always
+ * collide, so duplicates are never missed; two different passwords share a fingerprint with a
+ * probability of about {@code n / 2^64}, which only costs one extra regeneration. A persisted
+ * file keeps its seed, so uniqueness carries across runs; protect it like the passwords themselves.
+ * <p>
+ * Not thread-safe; guard it externally when shared.
+ */
+public class FingerprintSet implements AutoCloseable {
+
+    /** Slots allocated per allowed entry, keeping the load factor at or below one half. */
+    public static final int SLOTS_PER_ENTRY = 2;
+    /** Memory used per million allowed entries, in bytes. */
+    public static final long BYTES_PER_MILLION = 1_000_000L * SLOTS_PER_ENTRY * Long.BYTES;
+    /** File magic number, "PWUNIQUE" in ASCII. */
+    private static final long MAGIC = 0x5057554E49515545L;
+    /** File format version. */
+    private static final int VERSION = 1;
+    /** Header size: magic, version, reserved int, seed and slot count. */
+    private static final int HEADER_SIZE = 32;
+    /** Slots per buffer, keeping every buffer below the 2 GB limit. */
+    private static final int SEGMENT_SHIFT = 27;
+    /** Mask extracting the index of a slot within its buffer. */
+    private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+    /** Marks an empty slot; a fingerprint equal to it is stored as {@link #EMPTY_REPLACEMENT}. */
+    private static final long EMPTY = 0L;
+    /** Stored in place of a fingerprint equal to {@link #EMPTY}. */
+    private static final long EMPTY_REPLACEMENT = 1L;
+
+    /** Slot buffers, direct or mapped. */
+    private final ByteBuffer[] segments;
+    /** Number of slots. */
+    private final long slots;
+    /** Largest number of entries. */
+    private final long maxEntries;
+    /** Hash seed. */
+    private final long seed;
+    /** Channel of the persisted file, or null for an in-memory set. */
+    private final FileChannel channel;
+    /** Number of entries. */
+    private long size;
+    /** Whether the set was closed and its buffers released. */
+    private boolean closed;
+
+    /**
+     * Creates a set over allocated slot buffers.
+     *
+     * @param segments slot buffers
+     * @param slots    number of slots
+     * @param seed     hash seed
+     * @param channel  channel of the persisted file, or null
+     * @param size     number of occupied slots
+     */
+    private FingerprintSet(ByteBuffer[] segments, long slots, long seed, FileChannel channel, long size) {
+        this.segments = segments;
+        this.slots = slots;
+        this.maxEntries = slots / SLOTS_PER_ENTRY;
+        this.seed = seed;
+        this.channel = channel;
+        this.size = size;
+    }
+
+    /**
+     * Creates an in-memory set in direct buffers.
+     *
+     * @param maxEntries largest number of entries
+     * @return empty set
+     */
+    public static FingerprintSet create(long maxEntries) {
+        long slots = slotsFor(maxEntries);
+        ByteBuffer[] segments = new ByteBuffer[segmentCount(slots)];
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = ByteBuffer.allocateDirect((int) (segmentSlots(slots, i) * Long.BYTES));
+        }
+        return new FingerprintSet(segments, slots, new SecureRandom().nextLong(), null, 0);
+    }
+
+    /**
+     * Opens a persisted set, creating the file sized for {@code maxEntries} if it does not exist.
+     * An existing file keeps its own capacity and seed.
+     *
+     * @param file       set file
+     * @param maxEntries largest number of entries of a new file
+     * @return set backed by the file
+     */
+    public static FingerprintSet open(Path file, long maxEntries) {
+        FileChannel channel = null;
+        try {
+            boolean exists = Files.exists(file);
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            long slots;
+            long seed;
+            if (exists) {
+                channel.read(header, 0);
+                header.flip();
+                if (header.remaining() < HEADER_SIZE || header.getLong() != MAGIC || header.getInt() != VERSION) {
+                    throw new PasswordGenerationException("Not a fingerprint file: " + file);
+                }
+                header.getInt();
+                seed = header.getLong();
+                slots = header.getLong();
+                if (slots < SLOTS_PER_ENTRY || channel.size() != HEADER_SIZE + slots * Long.BYTES) {
+                    throw new PasswordGenerationException("Fingerprint file is truncated: " + file);
+                }
+            } else {
+                slots = slotsFor(maxEntries);
+                seed = new SecureRandom().nextLong();
+                header.putLong(MAGIC).putInt(VERSION).putInt(0).putLong(seed).putLong(slots).flip();
+                channel.write(header, 0);
+                // Extends the file with zero-filled, i.e. empty, slots
+                channel.write(ByteBuffer.allocate(1), HEADER_SIZE + slots * Long.BYTES - 1);
+            }
+
+            ByteBuffer[] segments = new ByteBuffer[segmentCount(slots)];
+            for (int i = 0; i < segments.length; i++) {
+                long first = (long) i << SEGMENT_SHIFT;
+                segments[i] = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE + first * Long.BYTES,
+                        segmentSlots(slots, i) * Long.BYTES);
+            }
+            // Only an existing file has entries to count; a new one is all empty slots
+            return new FingerprintSet(segments, slots, seed, channel, exists ? countEntries(segments) : 0);
+        } catch (IOException e) {
+            closeQuietly(channel);
+            throw new PasswordGenerationException("Could not open fingerprint file: " + file, e);
+        } catch (PasswordGenerationException e) {
+            closeQuietly(channel);
+            throw e;
+        }
+    }
+
+    /**
+     * Adds the fingerprint of a password unless it is already present.
+     *
+     * @param password password
+     * @return true if added, false if the password (or one sharing its fingerprint) was seen before
+     */
+    public boolean add(CharSequence password) {
+        checkOpen();
+        long hash = seed;
+        for (int i = 0; i < password.length(); i++) {
+            hash = step(hash, password.charAt(i));
+        }
+        return addFingerprint(finish(hash, password.length()));
+    }
+
+    /**
+     * Adds the fingerprint of a password held in a character array unless it is already present.
+     *
+     * @param password array holding the password
+     * @param offset   index of the first password character
+     * @param length   number of password characters
+     * @return true if added, false if the password (or one sharing its fingerprint) was seen before
+     */
+    public boolean add(char[] password, int offset, int length) {
+        checkOpen();
+        long hash = seed;
+        for (int i = offset; i < offset + length; i++) {
+            hash = step(hash, password[i]);
+        }
+        return addFingerprint(finish(hash, length));
+    }
+
+    /**
+     * Gets the number of entries.
+     *
+     * @return set size
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Gets the largest number of entries.
+     *
+     * @return capacity
+     */
+    public long capacity() {
+        return maxEntries;
+    }
+
+    /**
+     * Writes a persisted set to disk and closes it, then drops the slot buffers; the set cannot be
+     * used afterwards. The JDK has no explicit release of direct or mapped buffers, so their memory
+     * is returned by the next garbage collection that finds them unreachable.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        try {
+            if (channel != null) {
+                for (ByteBuffer segment : segments) {
+                    ((MappedByteBuffer) segment).force();
+                }
+                channel.close();
+            }
+        } catch (IOException e) {
+            throw new PasswordGenerationException("Could not close fingerprint file.", e);
+        } finally {
+            closed = true;
+            Arrays.fill(segments, null);
+        }
+    }
+
+    /**
+     * Fails if the set was closed.
+     */
+    private void checkOpen() {
+        if (closed) {
+            throw new PasswordGenerationException("Fingerprint set is closed.");
+        }
+    }
+
+    /**
+     * Inserts a fingerprint with linear probing.
+     *
+     * @param fingerprint fingerprint
+     * @return true if inserted, false if present
+     */
+    private boolean addFingerprint(long fingerprint) {
+        if (fingerprint == EMPTY) {
+            fingerprint = EMPTY_REPLACEMENT;
+        }
+        // Maps the high bits onto [0, slots) without a power-of-two table
+        long slot = Math.unsignedMultiplyHigh(fingerprint, slots);
+        while (true) {
+            long stored = read(slot);
+            if (stored == fingerprint) {
+                return false;
+            }
+            if (stored == EMPTY) {
+                if (size >= maxEntries) {
+                    throw new PasswordGenerationException(String.format(
+                            "Fingerprint set is full (%,d entries).", maxEntries));
+                }
+                segments[(int) (slot >>> SEGMENT_SHIFT)].putLong((int) (slot & SEGMENT_MASK) * Long.BYTES, fingerprint);
+                size++;
+                return true;
+            }
+            if (++slot == slots) {
+                slot = 0;
+            }
+        }
+    }
+
+    /**
+     * Reads a slot.
+     *
+     * @param slot slot index
+     * @return stored fingerprint, or {@link #EMPTY}
+     */
+    private long read(long slot) {
+        return segments[(int) (slot >>> SEGMENT_SHIFT)].getLong((int) (slot & SEGMENT_MASK) * Long.BYTES);
+    }
+
+    /**
+     * Counts the occupied slots of a reopened file.
+     *
+     * @param segments slot buffers
+     * @return number of entries
+     */
+    private static long countEntries(ByteBuffer[] segments) {
+        long entries = 0;
+        for (ByteBuffer segment : segments) {
+            for (int offset = 0; offset < segment.capacity(); offset += Long.BYTES) {
+                if (segment.getLong(offset) != EMPTY) {
+                    entries++;
+                }
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Mixes one character into a running hash.
+     *
+     * @param hash running hash
+     * @param c    character
+     * @return updated hash
+     */
+    private static long step(long hash, char c) {
+        return Long.rotateLeft((hash ^ c) * 0x9E3779B97F4A7C15L, 31);
+    }
+
+    /**
+     * Finalizes a running hash with the length and a full avalanche.
+     *
+     * @param hash   running hash
+     * @param length number of characters
+     * @return fingerprint
+     */
+    private static long finish(long hash, int length) {
+        long z = hash ^ length;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Computes the slot count of a set.
+     *
+     * @param maxEntries largest number of entries
+     * @return slot count
+     */
+    private static long slotsFor(long maxEntries) {
+        if (maxEntries < 1 || maxEntries > Long.MAX_VALUE / (SLOTS_PER_ENTRY * Long.BYTES)) {
+            throw new PasswordGenerationException("Fingerprint set capacity must be positive.");
+        }
+        return maxEntries * SLOTS_PER_ENTRY;
+    }
+
+    /**
+     * Computes the number of slot buffers.
+     *
+     * @param slots slot count
+     * @return buffer count
+     */
+    private static int segmentCount(long slots) {
+        return (int) ((slots + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+    }
+
+    /**
+     * Computes the number of slots of a buffer.
+     *
+     * @param slots   slot count
+     * @param segment buffer index
+     * @return slots in the buffer
+     */
+    private static long segmentSlots(long slots, int segment) {
+        return Math.min(1L << SEGMENT_SHIFT, slots - ((long) segment << SEGMENT_SHIFT));
+    }
+
+    /**
+     * Closes a channel after a failed open.
+     *
+     * @param channel channel, or null
+     */
+    private static void closeQuietly(FileChannel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // Already failing; the original error is reported
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package gr.marou.password_generator.util;
+
+import gr.marou.password_generator.exception.PasswordGenerationException;
+import gr.marou.password_generator.model.enums.StrengthLevel;
+
+import java.util.Arrays;
+
+/**
+ * Strength meter updated one keystroke at a time, for password fields that show the strength
+ * while the user types.
+ * <p>
+ * The strength only depends on the length, the character classes present, the number of
+ * whitespace characters and the number of distinct characters, none of which depend on the order
+ * of the characters. The meter keeps a running count of each class and a frequency table of the
+ * characters, so {@link #append(char)}, {@link #delete(char)}, {@link #clear()} and
+ * {@link #strength()} all run in constant time, and the password itself is never stored.
+ * {@link #strength()} always equals {@link PasswordStrengthUtils#evaluate(CharSequence)} of the
+ * current contents.
+ * <p>
+ * Not thread-safe; use one meter per input field.
+ */
+public final class IncrementalStrengthMeter {
+
+    /** Bits of a character selecting its frequency page. */
+    private static final int PAGE_SHIFT = 8;
+    /** Mask of a character's index within its page. */
+    private static final int PAGE_MASK = (1 << PAGE_SHIFT) - 1;
+
+    /** Character frequencies in pages of 256, allocated on first use; the first page covers ASCII. */
+    private final int[][] frequencies = new int[1 << (Character.SIZE - PAGE_SHIFT)][];
+    /** Epoch of each frequency entry; entries of an older epoch count as zero. */
+    private final int[][] epochs = new int[frequencies.length][];
+    /** Current epoch, advanced by {@link #clear()}. */
+    private int epoch = 1;
+    /** Number of characters of each variety class: lowercase, uppercase, digit, special. */
+    private final int[] classCounts = new int[4];
+    /** Number of whitespace characters. */
+    private int blankChars;
+    /** Number of distinct characters. */
+    private int unique;
+    /** Number of characters. */
+    private int length;
+
+    /**
+     * Creates an empty meter.
+     */
+    public IncrementalStrengthMeter() {
+        allocatePage(0);
+    }
+
+    /**
+     * Adds a typed character.
+     *
+     * @param ch character
+     * @return this meter
+     */
+    public IncrementalStrengthMeter append(char ch) {
+        if (adjustFrequency(ch, 1) == 1) unique++;
+        adjustClasses(ch, 1);
+        length++;
+        return this;
+    }
+
+    /**
+     * Adds typed or pasted characters, one at a time.
+     *
+     * @param characters characters
+     * @return this meter
+     */
+    public IncrementalStrengthMeter append(CharSequence characters) {
+        for (int i = 0; i < characters.length(); i++) {
+            append(characters.charAt(i));
+        }
+        return this;
+    }
+
+    /**
+     * Removes a deleted character, wherever it was in the password.
+     *
+     * @param ch character removed from the password
+     * @return this meter
+     */
+    public IncrementalStrengthMeter delete(char ch) {
+        if (count(ch) == 0) {
+            throw new PasswordGenerationException("Cannot delete a character that was never added.");
+        }
+        if (adjustFrequency(ch, -1) == 0) unique--;
+        adjustClasses(ch, -1);
+        length--;
+        return this;
+    }
+
+    /**
+     * Empties the meter without touching the frequency table.
+     *
+     * @return this meter
+     */
+    public IncrementalStrengthMeter clear() {
+        if (++epoch == 0) {
+            // Wrapped after 2^32 clears: reset the stamps so no stale entry looks current
+            for (int[] page : epochs) {
+                if (page != null) Arrays.fill(page, 0);
+            }
+            epoch = 1;
+        }
+        Arrays.fill(classCounts, 0);
+        blankChars = 0;
+        unique = 0;
+        length = 0;
+        return this;
+    }
+
+    /**
+     * Gets the strength of the current contents.
+     *
+     * @return the strength level
+     */
+    public StrengthLevel strength() {
+        int classes = 0;
+        for (int i = 0; i < classCounts.length; i++) {
+            if (classCounts[i] > 0) classes |= 1 << i;
+        }
+        return PasswordStrengthUtils.finish(length, classes, blankChars, unique);
+    }
+
+    /**
+     * Gets the number of characters.
+     *
+     * @return length
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Gets the number of distinct characters.
+     *
+     * @return distinct character count
+     */
+    public int uniqueCount() {
+        return unique;
+    }
+
+    /**
+     * Gets how often a character occurs in the current contents.
+     *
+     * @param ch character
+     * @return occurrences
+     */
+    public int count(char ch) {
+        int page = ch >>> PAGE_SHIFT;
+        int index = ch & PAGE_MASK;
+        return frequencies[page] == null || epochs[page][index] != epoch ? 0 : frequencies[page][index];
+    }
+
+    /**
+     * Changes the frequency of a character.
+     *
+     * @param ch    character
+     * @param delta change
+     * @return new frequency
+     */
+    private int adjustFrequency(char ch, int delta) {
+        int page = ch >>> PAGE_SHIFT;
+        int index = ch & PAGE_MASK;
+        if (frequencies[page] == null) allocatePage(page);
+        if (epochs[page][index] != epoch) {
+            epochs[page][index] = epoch;
+            frequencies[page][index] = 0;
+        }
+        return frequencies[page][index] += delta;
+    }
+
+    /**
+     * Changes the class counts for a character.
+     *
+     * @param ch    character
+     * @param delta change
+     */
+    private void adjustClasses(char ch, int delta) {
+        int flags = PasswordStrengthUtils.classOf(ch);
+        classCounts[Integer.numberOfTrailingZeros(flags & ~PasswordStrengthUtils.WHITESPACE)] += delta;
+        if ((flags & PasswordStrengthUtils.WHITESPACE) != 0) blankChars += delta;
+    }
+
+    /**
+     * Allocates a frequency page.
+     *
+     * @param page page index
+     */
+    private void allocatePage(int page) {
+        frequencies[page] = new int[1 << PAGE_SHIFT];
+        epochs[page] = new int[1 << PAGE_SHIFT];
+    }
+}
@@ -3,6 +3,7 @@ package gr.marou.password_generator.util;
 import gr.marou.password_generator.exception.PasswordGenerationException;
 import gr.marou.password_generator.model.enums.ASCIColors;
 
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -11,30 +12,51 @@ import java.util.logging.Logger;
  */
 public class LogUtils {
 
+    /** Asynchronous console handler installed by {@link #configureRootLogger()}, or null. */
+    private static AsyncLogHandler asyncHandler;
+
     /** Private constructor to prevent instantiation. */
     private LogUtils() {}
 
     /**
-     * Configures the root logger to use a simple format and no default handlers.
+     * Configures the root logger to print bare messages through an {@link AsyncLogHandler} on the
+     * console, replacing the default handlers. A shutdown hook flushes it if the JVM is stopped.
      */
-    public static void configureRootLogger() {
+    public static synchronized void configureRootLogger() {
         Logger rootLogger = Logger.getLogger("");
         for (var handler : rootLogger.getHandlers()) {
             rootLogger.removeHandler(handler);
         }
 
-        var consoleHandler = new java.util.logging.ConsoleHandler();
-        consoleHandler.setFormatter(new java.util.logging.SimpleFormatter() {
-            @Override
-            public synchronized String format(java.util.logging.LogRecord record) {
-                return record.getMessage() + System.lineSeparator();
-            }
-        });
-
-        rootLogger.addHandler(consoleHandler);
+        if (asyncHandler == null) {
+            asyncHandler = new AsyncLogHandler();
+            Runtime.getRuntime().addShutdownHook(new Thread(LogUtils::shutdownLogging, "log-shutdown"));
+        }
+        rootLogger.addHandler(asyncHandler);
         rootLogger.setLevel(Level.ALL);
     }
 
+    /**
+     * Blocks until every message logged so far has been written to the console.
+     */
+    public static void flushLogging() {
+        AsyncLogHandler handler = asyncHandler;
+        if (handler != null) {
+            handler.flush();
+        }
+    }
+
+    /**
+     * Writes every pending message and stops the asynchronous handler. Must be called before the
+     * application exits; later messages are dropped.
+     */
+    public static void shutdownLogging() {
+        AsyncLogHandler handler = asyncHandler;
+        if (handler != null) {
+            handler.close();
+        }
+    }
+
     /**
      * Logs an info-level message.
      */
@@ -89,6 +111,64 @@ public class LogUtils {
         }
     }
 
+    /**
+     * Logs an info-level message built only if it will be logged.
+     */
+    public static void info(Logger logger, Supplier<String> message) {
+        log(logger, Level.INFO, message, null);
+    }
+
+    /**
+     * Logs a warning-level message built only if it will be logged.
+     */
+    public static void warning(Logger logger, Supplier<String> message) {
+        log(logger, Level.WARNING, message, null);
+    }
+
+    /**
+     * Logs an error-level message built only if it will be logged.
+     */
+    public static void error(Logger logger, Supplier<String> message) {
+        log(logger, Level.SEVERE, message, null);
+    }
+
+    /**
+     * Logs a colored info-level message built only if it will be logged.
+     */
+    public static void info(Logger logger, Supplier<String> message, ASCIColors color) {
+        log(logger, Level.INFO, message, color);
+    }
+
+    /**
+     * Logs a colored warning-level message built only if it will be logged.
+     */
+    public static void warning(Logger logger, Supplier<String> message, ASCIColors color) {
+        log(logger, Level.WARNING, message, color);
+    }
+
+    /**
+     * Logs a colored error-level message built only if it will be logged.
+     */
+    public static void error(Logger logger, Supplier<String> message, ASCIColors color) {
+        log(logger, Level.SEVERE, message, color);
+    }
+
+    /**
+     * Logs a lazily built message at the specified level, optionally colored.
+     */
+    private static void log(Logger logger, Level level, Supplier<String> supplier, ASCIColors color) {
+        if (logger == null || level == null || supplier == null) {
+            throw new PasswordGenerationException("Logger Error, level, and message must not be null.");
+        }
+        if (!logger.isLoggable(level)) {
+            return;
+        }
+        String message = supplier.get();
+        if (message != null && !message.isBlank()) {
+            logger.log(level, color != null ? wrapColor(message, color) : message);
+        }
+    }
+
     /**
      * Logs a message at the specified level.
      */
@@ -0,0 +1,600 @@
+package gr.marou.password_generator.util;
+
+import gr.marou.password_generator.exception.PasswordGenerationException;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Offline check of passwords against a breach corpus.
+ * <p>
+ * The corpus is compiled once into a compact binary index: the first 64 bits of the SHA-1 of
+ * every breached password, sorted and de-duplicated. At runtime the index is memory-mapped and
+ * searched with a binary search, so the heap used does not grow with the corpus. With 64-bit
+ * prefixes the chance of a false positive is about {@code n / 2^64}, i.e. negligible even for
+ * billions of entries; a false positive only costs one extra regeneration.
+ * <p>
+ * Instances are thread-safe.
+ */
+public class PasswordBreachChecker implements AutoCloseable {
+
+    /** Index file magic number, "PWBREACH" in ASCII. */
+    private static final long MAGIC = 0x5057425245414348L;
+    /** Index format version. */
+    private static final int VERSION = 1;
+    /** Header size: magic, version, reserved int and entry count. */
+    private static final int HEADER_SIZE = 24;
+    /** Offset of the entry count in the header. */
+    private static final int COUNT_OFFSET = 16;
+    /** Hash prefixes sorted in memory before a run is spilled to disk, 32 MB of heap. */
+    private static final int RUN_ENTRIES = 1 << 22;
+    /** Initial capacity of the in-memory run, so small dumps do not allocate a full run. */
+    private static final int INITIAL_RUN_ENTRIES = 1 << 16;
+    /** Size of the buffers used to write the index and to read every spilled run. */
+    private static final int IO_BUFFER_BYTES = 1 << 16;
+    /** Entries per mapped segment, keeping every segment below the 2 GB mapping limit. */
+    private static final int SEGMENT_SHIFT = 27;
+    /** Mask extracting the index of an entry within its segment. */
+    private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+    /** Length of a hex-encoded SHA-1 hash. */
+    private static final int SHA1_HEX_LENGTH = 40;
+
+    /** Per-thread digest and encoding buffers. */
+    private static final ThreadLocal<Sha1Scratch> SCRATCH = ThreadLocal.withInitial(Sha1Scratch::new);
+
+    /** Channel of the open index file. */
+    private final FileChannel channel;
+    /** Mapped segments of sorted hash prefixes. */
+    private final MappedByteBuffer[] segments;
+    /** Number of hash prefixes in the index. */
+    private final long count;
+
+    /**
+     * Opens a compiled index.
+     *
+     * @param channel channel of the index file
+     * @throws IOException if the file cannot be mapped
+     */
+    private PasswordBreachChecker(FileChannel channel) throws IOException {
+        this.channel = channel;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        channel.read(header, 0);
+        header.flip();
+        if (header.remaining() < HEADER_SIZE || header.getLong() != MAGIC || header.getInt() != VERSION) {
+            throw new PasswordGenerationException("Not a breach index file.");
+        }
+        header.getInt();
+        this.count = header.getLong();
+        if (channel.size() != HEADER_SIZE + count * Long.BYTES) {
+            throw new PasswordGenerationException("Breach index file is truncated.");
+        }
+
+        int segmentCount = (int) ((count + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+        this.segments = new MappedByteBuffer[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            long first = (long) i << SEGMENT_SHIFT;
+            long entries = Math.min(1L << SEGMENT_SHIFT, count - first);
+            segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + first * Long.BYTES, entries * Long.BYTES);
+        }
+    }
+
+    /**
+     * Opens and memory-maps a breach index built by {@link #buildIndex(Path, Path)}.
+     *
+     * @param index index file
+     * @return breach checker over the index
+     */
+    public static PasswordBreachChecker open(Path index) {
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(index, StandardOpenOption.READ);
+            return new PasswordBreachChecker(channel);
+        } catch (IOException e) {
+            closeQuietly(channel);
+            throw new PasswordGenerationException("Could not open breach index: " + index, e);
+        } catch (PasswordGenerationException e) {
+            closeQuietly(channel);
+            throw e;
+        }
+    }
+
+    /**
+     * Compiles a text dump into a breach index.
+     * <p>
+     * Each line of the dump is either a plain password or, as in common breach exports, a
+     * hex-encoded SHA-1 hash optionally followed by {@code :count}.
+     * <p>
+     * The build needs a fixed amount of memory whatever the size of the dump: hash prefixes are
+     * sorted in runs of at most {@link #RUN_ENTRIES}, runs are spilled to temporary files next to
+     * the index, and the runs are then merged into the index. A dump that fits in a single run is
+     * written directly.
+     *
+     * @param dump  text dump, one entry per line, UTF-8
+     * @param index destination index file, overwritten
+     * @return number of distinct entries written
+     */
+    public static long buildIndex(Path dump, Path index) {
+        return buildIndex(dump, index, RUN_ENTRIES);
+    }
+
+    /**
+     * Compiles a text dump into a breach index, spilling runs of the given size.
+     *
+     * @param dump       text dump, one entry per line, UTF-8
+     * @param index      destination index file, overwritten
+     * @param runEntries hash prefixes sorted in memory per run
+     * @return number of distinct entries written
+     */
+    private static long buildIndex(Path dump, Path index, int runEntries) {
+        List<Path> runs = new ArrayList<>();
+        try {
+            long[] run = new long[Math.min(INITIAL_RUN_ENTRIES, runEntries)];
+            int size = 0;
+            try (BufferedReader reader = Files.newBufferedReader(dump, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isEmpty()) continue;
+                    if (size == runEntries) {
+                        runs.add(spillRun(index, run, size));
+                        size = 0;
+                    } else if (size == run.length) {
+                        // Grow once to the full run, so a copy never holds two large arrays
+                        run = Arrays.copyOf(run, runEntries);
+                    }
+                    run[size++] = isSha1Entry(line) ? Long.parseUnsignedLong(line, 0, 16, 16) : prefix(line);
+                }
+            } catch (IOException e) {
+                throw new PasswordGenerationException("Could not read breach dump: " + dump, e);
+            }
+
+            if (runs.isEmpty()) {
+                int distinct = sortDistinct(run, size);
+                writeIndex(index, run, distinct);
+                return distinct;
+            }
+            runs.add(spillRun(index, run, size));
+            return mergeRuns(runs, index);
+        } finally {
+            for (Path run : runs) {
+                deleteQuietly(run);
+            }
+        }
+    }
+
+    /**
+     * Checks whether a password appears in the breach corpus.
+     *
+     * @param password password to check
+     * @return true if breached
+     */
+    public boolean isBreached(CharSequence password) {
+        Sha1Scratch scratch = SCRATCH.get();
+        byte[] utf8 = scratch.utf8(password.length());
+        int length = 0;
+        for (int i = 0; i < password.length(); ) {
+            int codePoint = Character.codePointAt(password, i);
+            length = encodeCodePoint(codePoint, utf8, length);
+            i += Character.charCount(codePoint);
+        }
+        return contains(scratch.prefix(utf8, length));
+    }
+
+    /**
+     * Checks whether a password held in a character array appears in the breach corpus.
+     *
+     * @param password array holding the password
+     * @param offset   index of the first password character
+     * @param length   number of password characters
+     * @return true if breached
+     */
+    public boolean isBreached(char[] password, int offset, int length) {
+        Sha1Scratch scratch = SCRATCH.get();
+        byte[] utf8 = scratch.utf8(length);
+        int encoded = 0;
+        int end = offset + length;
+        for (int i = offset; i < end; ) {
+            int codePoint = Character.codePointAt(password, i, end);
+            encoded = encodeCodePoint(codePoint, utf8, encoded);
+            i += Character.charCount(codePoint);
+        }
+        return contains(scratch.prefix(utf8, encoded));
+    }
+
+    /**
+     * Gets the number of hash prefixes in the index.
+     *
+     * @return index size
+     */
+    public long size() {
+        return count;
+    }
+
+    /**
+     * Closes the index file. Mapped segments stay valid until garbage-collected.
+     */
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new PasswordGenerationException("Could not close breach index.", e);
+        }
+    }
+
+    /**
+     * Binary-searches the mapped index for a hash prefix.
+     *
+     * @param prefix first 64 bits of the SHA-1
+     * @return true if present
+     */
+    private boolean contains(long prefix) {
+        long low = 0;
+        long high = count - 1;
+        while (low <= high) {
+            long middle = (low + high) >>> 1;
+            long value = segments[(int) (middle >>> SEGMENT_SHIFT)].getLong((int) (middle & SEGMENT_MASK) * Long.BYTES);
+            if (value < prefix) low = middle + 1;
+            else if (value > prefix) high = middle - 1;
+            else return true;
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether a dump line is a hex-encoded SHA-1, optionally followed by {@code :count}.
+     *
+     * @param line dump line
+     * @return true if the line holds a hash rather than a password
+     */
+    private static boolean isSha1Entry(String line) {
+        if (line.length() < SHA1_HEX_LENGTH || (line.length() > SHA1_HEX_LENGTH && line.charAt(SHA1_HEX_LENGTH) != ':')) {
+            return false;
+        }
+        for (int i = 0; i < SHA1_HEX_LENGTH; i++) {
+            if (Character.digit(line.charAt(i), 16) < 0) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Computes the 64-bit SHA-1 prefix of a plain password.
+     *
+     * @param password password text
+     * @return hash prefix
+     */
+    private static long prefix(String password) {
+        byte[] utf8 = password.getBytes(StandardCharsets.UTF_8);
+        return SCRATCH.get().prefix(utf8, utf8.length);
+    }
+
+    /**
+     * Sorts prefixes in place and removes duplicates.
+     *
+     * @param prefixes prefixes
+     * @param size     number of prefixes
+     * @return number of distinct prefixes, now at the start of the array
+     */
+    private static int sortDistinct(long[] prefixes, int size) {
+        Arrays.sort(prefixes, 0, size);
+        int distinct = 0;
+        for (int i = 0; i < size; i++) {
+            if (distinct == 0 || prefixes[distinct - 1] != prefixes[i]) {
+                prefixes[distinct++] = prefixes[i];
+            }
+        }
+        return distinct;
+    }
+
+    /**
+     * Writes sorted prefixes to an index file.
+     *
+     * @param index    destination file
+     * @param prefixes sorted, distinct prefixes
+     * @param count    number of prefixes to write
+     */
+    private static void writeIndex(Path index, long[] prefixes, int count) {
+        try (FileChannel out = FileChannel.open(index, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(IO_BUFFER_BYTES);
+            buffer.putLong(MAGIC).putInt(VERSION).putInt(0).putLong(count);
+            for (int i = 0; i < count; i++) {
+                putLong(out, buffer, prefixes[i]);
+            }
+            flush(out, buffer);
+        } catch (IOException e) {
+            throw new PasswordGenerationException("Could not write breach index: " + index, e);
+        }
+    }
+
+    /**
+     * Sorts a run of prefixes and writes its distinct values to a temporary file next to the index.
+     *
+     * @param index    destination index file
+     * @param prefixes run prefixes, sorted in place
+     * @param size     number of prefixes
+     * @return temporary run file
+     */
+    private static Path spillRun(Path index, long[] prefixes, int size) {
+        int distinct = sortDistinct(prefixes, size);
+        Path run = null;
+        try {
+            run = Files.createTempFile(index.toAbsolutePath().getParent(), "breach-run-", ".tmp");
+            try (FileChannel out = FileChannel.open(run, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.allocateDirect(IO_BUFFER_BYTES);
+                for (int i = 0; i < distinct; i++) {
+                    putLong(out, buffer, prefixes[i]);
+                }
+                flush(out, buffer);
+            }
+            return run;
+        } catch (IOException e) {
+            if (run != null) deleteQuietly(run);
+            throw new PasswordGenerationException("Could not write breach index run next to: " + index, e);
+        }
+    }
+
+    /**
+     * Merges sorted runs into an index file, dropping prefixes present in several runs.
+     *
+     * @param runs  run files, each sorted and distinct
+     * @param index destination file
+     * @return number of distinct prefixes written
+     */
+    private static long mergeRuns(List<Path> runs, Path index) {
+        List<RunReader> readers = new ArrayList<>(runs.size());
+        PriorityQueue<RunReader> queue = new PriorityQueue<>(runs.size(), Comparator.comparingLong(RunReader::current));
+        try (FileChannel out = FileChannel.open(index, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (Path run : runs) {
+                RunReader reader = new RunReader(run);
+                readers.add(reader);
+                if (reader.advance()) queue.add(reader);
+            }
+            ByteBuffer buffer = ByteBuffer.allocateDirect(IO_BUFFER_BYTES);
+            // The count is not known until the merge ends; it is patched into the header afterwards
+            buffer.putLong(MAGIC).putInt(VERSION).putInt(0).putLong(0);
+            long count = 0;
+            long last = 0;
+            while (!queue.isEmpty()) {
+                RunReader reader = queue.poll();
+                long prefix = reader.current();
+                if (count == 0 || prefix != last) {
+                    putLong(out, buffer, prefix);
+                    last = prefix;
+                    count++;
+                }
+                if (reader.advance()) queue.add(reader);
+            }
+            flush(out, buffer);
+            ByteBuffer header = ByteBuffer.allocate(Long.BYTES).putLong(0, count);
+            while (header.hasRemaining()) out.write(header, COUNT_OFFSET + header.position());
+            return count;
+        } catch (IOException e) {
+            throw new PasswordGenerationException("Could not write breach index: " + index, e);
+        } finally {
+            for (RunReader reader : readers) {
+                reader.close();
+            }
+        }
+    }
+
+    /**
+     * Appends a prefix to a write buffer, writing the buffer out when it is full.
+     *
+     * @param out    destination channel
+     * @param buffer write buffer
+     * @param prefix prefix
+     * @throws IOException if the channel cannot be written
+     */
+    private static void putLong(FileChannel out, ByteBuffer buffer, long prefix) throws IOException {
+        if (buffer.remaining() < Long.BYTES) {
+            flush(out, buffer);
+        }
+        buffer.putLong(prefix);
+    }
+
+    /**
+     * Writes out and clears a write buffer.
+     *
+     * @param out    destination channel
+     * @param buffer write buffer
+     * @throws IOException if the channel cannot be written
+     */
+    private static void flush(FileChannel out, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) out.write(buffer);
+        buffer.clear();
+    }
+
+    /**
+     * Appends the UTF-8 encoding of one code point, replacing unpaired surrogates with {@code ?}
+     * exactly like {@link String#getBytes(java.nio.charset.Charset)}.
+     *
+     * @param codePoint code point
+     * @param out       destination, at least three bytes per character long
+     * @param position  write position
+     * @return new write position
+     */
+    private static int encodeCodePoint(int codePoint, byte[] out, int position) {
+        if (codePoint < 0x80) {
+            out[position++] = (byte) codePoint;
+        } else if (codePoint < 0x800) {
+            out[position++] = (byte) (0xC0 | (codePoint >> 6));
+            out[position++] = (byte) (0x80 | (codePoint & 0x3F));
+        } else if (codePoint < 0x10000 && Character.isSurrogate((char) codePoint)) {
+            out[position++] = '?';
+        } else if (codePoint < 0x10000) {
+            out[position++] = (byte) (0xE0 | (codePoint >> 12));
+            out[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+            out[position++] = (byte) (0x80 | (codePoint & 0x3F));
+        } else {
+            out[position++] = (byte) (0xF0 | (codePoint >> 18));
+            out[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+            out[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+            out[position++] = (byte) (0x80 | (codePoint & 0x3F));
+        }
+        return position;
+    }
+
+    /**
+     * Creates a SHA-1 digest.
+     *
+     * @return message digest
+     */
+    private static MessageDigest newSha1() {
+        try {
+            return MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new PasswordGenerationException("SHA-1 is not available.", e);
+        }
+    }
+
+    /**
+     * Closes a channel after a failure, ignoring a second error.
+     *
+     * @param channel channel, or null if it was never opened
+     */
+    private static void closeQuietly(FileChannel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // Already failing; the original error is reported
+        }
+    }
+
+    /**
+     * Deletes a temporary run file, ignoring an error.
+     *
+     * @param run run file
+     */
+    private static void deleteQuietly(Path run) {
+        try {
+            Files.deleteIfExists(run);
+        } catch (IOException e) {
+            // Left behind in the index directory; the build result is unaffected
+        }
+    }
+
+    /**
+     * Sequential reader of a spilled run, positioned on its current prefix during a merge.
+     */
+    private static final class RunReader implements Closeable {
+
+        /** Channel of the run file. */
+        private final FileChannel channel;
+        /** Read buffer, holding whole prefixes only. */
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(IO_BUFFER_BYTES).flip();
+        /** Prefix the reader is positioned on. */
+        private long current;
+
+        /**
+         * Opens a run file.
+         *
+         * @param run run file
+         * @throws IOException if the file cannot be opened
+         */
+        private RunReader(Path run) throws IOException {
+            this.channel = FileChannel.open(run, StandardOpenOption.READ);
+        }
+
+        /**
+         * Moves to the next prefix of the run.
+         *
+         * @return false at the end of the run
+         * @throws IOException if the file cannot be read
+         */
+        private boolean advance() throws IOException {
+            if (!buffer.hasRemaining()) {
+                buffer.clear();
+                // Fill the buffer completely, so it never ends in the middle of a prefix
+                int read;
+                do {
+                    read = channel.read(buffer);
+                } while (read >= 0 && buffer.hasRemaining());
+                buffer.flip();
+                if (!buffer.hasRemaining()) return false;
+            }
+            current = buffer.getLong();
+            return true;
+        }
+
+        /**
+         * Gets the prefix the reader is positioned on.
+         *
+         * @return current prefix
+         */
+        private long current() {
+            return current;
+        }
+
+        /**
+         * Closes the run file.
+         */
+        @Override
+        public void close() {
+            closeQuietly(channel);
+        }
+    }
+
+    /**
+     * Per-thread digest and buffers, so lookups do not allocate.
+     */
+    private static final class Sha1Scratch {
+
+        /** SHA-1 digest. */
+        private final MessageDigest digest = newSha1();
+        /** Digest output. */
+        private final byte[] hash = new byte[20];
+        /** UTF-8 encoding of the password being checked. */
+        private byte[] utf8 = new byte[256];
+
+        /**
+         * Gets an encoding buffer large enough for the given number of characters.
+         *
+         * @param chars number of characters
+         * @return encoding buffer
+         */
+        private byte[] utf8(int chars) {
+            if (utf8.length < chars * 3) {
+                utf8 = new byte[chars * 3];
+            }
+            return utf8;
+        }
+
+        /**
+         * Hashes the bytes and returns the first 64 bits of the digest, then wipes the input.
+         *
+         * @param bytes  encoded password
+         * @param length number of bytes
+         * @return hash prefix
+         */
+        private long prefix(byte[] bytes, int length) {
+            digest.update(bytes, 0, length);
+            try {
+                digest.digest(hash, 0, hash.length);
+            } catch (java.security.DigestException e) {
+                throw new PasswordGenerationException("Could not hash password.", e);
+            }
+            Arrays.fill(bytes, 0, length, (byte) 0);
+            return ByteBuffer.wrap(hash).getLong();
+        }
+    }
+}
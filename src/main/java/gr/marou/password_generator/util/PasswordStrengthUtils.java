@@ -1,15 +1,45 @@
 package gr.marou.password_generator.util;
 
+import gr.marou.password_generator.metrics.GeneratorMetrics;
 import gr.marou.password_generator.model.enums.StrengthLevel;
 
-import java.util.HashSet;
-import java.util.Set;
-
 /**
  * Utility class for evaluating password strength.
+ * <p>
+ * Evaluation is a single allocation-free pass: ASCII characters are classified through a
+ * precomputed lookup table and uniqueness is counted with a bitset instead of a set of boxed
+ * characters. While metrics are enabled, each {@code evaluate} call is counted and timed; the
+ * generator rates the passwords it issues with {@link #evaluateUnrecorded(char[], int, int)} and
+ * records their strength with the generation instead, so no password is counted twice.
  */
 public class PasswordStrengthUtils {
 
+    /** Class flag for lowercase characters. */
+    static final int LOWER = 1;
+    /** Class flag for uppercase characters. */
+    static final int UPPER = 1 << 1;
+    /** Class flag for digits. */
+    static final int DIGIT = 1 << 2;
+    /** Class flag for any other character. */
+    static final int SPECIAL = 1 << 3;
+    /** Extra flag for whitespace, used for the blank check. */
+    static final int WHITESPACE = 1 << 4;
+
+    /** Precomputed class flags for every ASCII character. */
+    private static final byte[] ASCII_CLASSES = new byte[128];
+
+    static {
+        for (char ch = 0; ch < ASCII_CLASSES.length; ch++) {
+            ASCII_CLASSES[ch] = (byte) classify(ch);
+        }
+    }
+
+    /** Per-thread bitset over all non-ASCII characters, cleared after every evaluation. */
+    private static final ThreadLocal<long[]> UNICODE_SEEN = ThreadLocal.withInitial(() -> new long[1 << 10]);
+
+    /** Evaluation metrics, recorded only while enabled. */
+    private static final GeneratorMetrics METRICS = GeneratorMetrics.get();
+
     /** Private constructor to prevent instantiation. */
     private PasswordStrengthUtils(){}
 
@@ -20,55 +50,204 @@ public class PasswordStrengthUtils {
      * @return the strength level
      */
     public static StrengthLevel evaluate(String password) {
-        if (password == null || password.isBlank()) return StrengthLevel.WEAK;
+        return evaluate((CharSequence) password);
+    }
+
+    /**
+     * Evaluates the strength of a password without allocating.
+     *
+     * @param password the password to evaluate
+     * @return the strength level
+     */
+    public static StrengthLevel evaluate(CharSequence password) {
+        if (!METRICS.isEnabled()) return evaluateSequence(password);
+        long start = System.nanoTime();
+        StrengthLevel level = evaluateSequence(password);
+        METRICS.recordEvaluation(System.nanoTime() - start);
+        return level;
+    }
+
+    /**
+     * Evaluates a password held in a character sequence.
+     *
+     * @param password the password to evaluate
+     * @return the strength level
+     */
+    private static StrengthLevel evaluateSequence(CharSequence password) {
+        if (password == null) return StrengthLevel.WEAK;
 
         int length = password.length();
-        int variety = countVariety(password);
-        double uniquenessRatio = calculateUniquenessRatio(password);
+        int classes = 0;
+        int blankChars = 0;
+        int unique = 0;
+        long seenLow = 0;
+        long seenHigh = 0;
+        long[] unicodeSeen = null;
+
+        for (int i = 0; i < length; i++) {
+            char ch = password.charAt(i);
+            int flags;
+            if (ch < 64) {
+                flags = ASCII_CLASSES[ch];
+                if ((seenLow & (1L << ch)) == 0) { seenLow |= 1L << ch; unique++; }
+            } else if (ch < 128) {
+                flags = ASCII_CLASSES[ch];
+                if ((seenHigh & (1L << ch)) == 0) { seenHigh |= 1L << ch; unique++; }
+            } else {
+                flags = classify(ch);
+                if (unicodeSeen == null) unicodeSeen = UNICODE_SEEN.get();
+                if (markSeen(unicodeSeen, ch)) unique++;
+            }
+            classes |= flags;
+            if ((flags & WHITESPACE) != 0) blankChars++;
+        }
+        if (unicodeSeen != null) {
+            for (int i = 0; i < length; i++) {
+                clearSeen(unicodeSeen, password.charAt(i));
+            }
+        }
+        return finish(length, classes, blankChars, unique);
+    }
+
+    /**
+     * Evaluates the strength of a password held in a character array without allocating.
+     *
+     * @param password the password to evaluate
+     * @return the strength level
+     */
+    public static StrengthLevel evaluate(char[] password) {
+        return password == null ? StrengthLevel.WEAK : evaluate(password, 0, password.length);
+    }
+
+    /**
+     * Evaluates the strength of a password held in a region of a character array without allocating.
+     *
+     * @param password the array holding the password
+     * @param offset   index of the first password character
+     * @param length   number of password characters
+     * @return the strength level
+     */
+    public static StrengthLevel evaluate(char[] password, int offset, int length) {
+        if (!METRICS.isEnabled()) return evaluateArray(password, offset, length);
+        long start = System.nanoTime();
+        StrengthLevel level = evaluateArray(password, offset, length);
+        METRICS.recordEvaluation(System.nanoTime() - start);
+        return level;
+    }
 
-        return determineStrength(length, variety, uniquenessRatio);
+    /**
+     * Evaluates a password held in a region of a character array without recording an evaluation,
+     * for callers that record the result in their own metrics.
+     *
+     * @param password the array holding the password
+     * @param offset   index of the first password character
+     * @param length   number of password characters
+     * @return the strength level
+     */
+    public static StrengthLevel evaluateUnrecorded(char[] password, int offset, int length) {
+        return evaluateArray(password, offset, length);
     }
 
     /**
-     * Counts the number of different character types in the password.
+     * Evaluates a password held in a region of a character array.
+     *
+     * @param password the array holding the password
+     * @param offset   index of the first password character
+     * @param length   number of password characters
+     * @return the strength level
      */
-    private static int countVariety(String password) {
-        boolean hasLower = false;
-        boolean hasUpper = false;
-        boolean hasDigit = false;
-        boolean hasSpecial = false;
-
-        for (char ch : password.toCharArray()) {
-            if (Character.isLowerCase(ch)) hasLower = true;
-            else if (Character.isUpperCase(ch)) hasUpper = true;
-            else if (Character.isDigit(ch)) hasDigit = true;
-            else hasSpecial = true;
+    private static StrengthLevel evaluateArray(char[] password, int offset, int length) {
+        if (password == null) return StrengthLevel.WEAK;
+
+        int classes = 0;
+        int blankChars = 0;
+        int unique = 0;
+        long seenLow = 0;
+        long seenHigh = 0;
+        long[] unicodeSeen = null;
+        int end = offset + length;
+
+        for (int i = offset; i < end; i++) {
+            char ch = password[i];
+            int flags;
+            if (ch < 64) {
+                flags = ASCII_CLASSES[ch];
+                if ((seenLow & (1L << ch)) == 0) { seenLow |= 1L << ch; unique++; }
+            } else if (ch < 128) {
+                flags = ASCII_CLASSES[ch];
+                if ((seenHigh & (1L << ch)) == 0) { seenHigh |= 1L << ch; unique++; }
+            } else {
+                flags = classify(ch);
+                if (unicodeSeen == null) unicodeSeen = UNICODE_SEEN.get();
+                if (markSeen(unicodeSeen, ch)) unique++;
+            }
+            classes |= flags;
+            if ((flags & WHITESPACE) != 0) blankChars++;
+        }
+        if (unicodeSeen != null) {
+            for (int i = offset; i < end; i++) {
+                clearSeen(unicodeSeen, password[i]);
+            }
         }
+        return finish(length, classes, blankChars, unique);
+    }
+
+    /**
+     * Turns the collected metrics into a strength level.
+     *
+     * @param length     password length
+     * @param classes    union of the class flags of every character
+     * @param blankChars number of whitespace characters
+     * @param unique     number of distinct characters
+     * @return the strength level
+     */
+    static StrengthLevel finish(int length, int classes, int blankChars, int unique) {
+        if (blankChars == length) return StrengthLevel.WEAK;
+        int variety = Integer.bitCount(classes & (LOWER | UPPER | DIGIT | SPECIAL));
+        return determineStrength(length, variety, (double) unique / length);
+    }
+
+    /**
+     * Gets the class flags of a character, through the lookup table for ASCII.
+     */
+    static int classOf(char ch) {
+        return ch < 128 ? ASCII_CLASSES[ch] : classify(ch);
+    }
 
-        int variety = 0;
-        if (hasLower) variety++;
-        if (hasUpper) variety++;
-        if (hasDigit) variety++;
-        if (hasSpecial) variety++;
+    /**
+     * Classifies a character into one of the variety classes.
+     */
+    private static int classify(char ch) {
+        int whitespace = Character.isWhitespace(ch) ? WHITESPACE : 0;
+        if (Character.isLowerCase(ch)) return LOWER | whitespace;
+        else if (Character.isUpperCase(ch)) return UPPER | whitespace;
+        else if (Character.isDigit(ch)) return DIGIT | whitespace;
+        else return SPECIAL | whitespace;
+    }
 
-        return variety;
+    /**
+     * Marks a character as seen, returning whether it was new.
+     */
+    private static boolean markSeen(long[] seen, char ch) {
+        long bit = 1L << ch;
+        if ((seen[ch >>> 6] & bit) != 0) return false;
+        seen[ch >>> 6] |= bit;
+        return true;
     }
 
     /**
-     * Calculates the uniqueness ratio of the characters in the password.
+     * Clears a character from the seen bitset.
      */
-    private static double calculateUniquenessRatio(String password) {
-        Set<Character> unique = new HashSet<>();
-        for (char ch : password.toCharArray()) {
-            unique.add(ch);
+    private static void clearSeen(long[] seen, char ch) {
+        if (ch >= 128) {
+            seen[ch >>> 6] &= ~(1L << ch);
         }
-        return (double) unique.size() / password.length();
     }
 
     /**
      * Determines the strength level from metrics.
      */
-    private static StrengthLevel determineStrength(int length, int variety, double uniquenessRatio) {
+    static StrengthLevel determineStrength(int length, int variety, double uniquenessRatio) {
         if (length < 8 || variety < 2 || uniquenessRatio < 0.5) {
             return StrengthLevel.WEAK;
         } else if (length <= 10 && variety >= 2 && uniquenessRatio >= 0.5) {
@@ -0,0 +1,114 @@
+package gr.marou.password_generator.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, lock-free multi-producer multi-consumer ring buffer.
+ * <p>
+ * Each slot carries a sequence number telling whether it is free for the lap being written or
+ * filled for the lap being read; producers and consumers claim a slot with a single compare-and-set
+ * on their cursor, so an entry is always removed by exactly one {@link #poll()}.
+ *
+ * @param <E> element type
+ */
+public final class RingBuffer<E> {
+
+    /** Elements; a slot is null once consumed. */
+    private final AtomicReferenceArray<E> slots;
+    /** Per-slot sequence numbers. */
+    private final AtomicLongArray sequences;
+    /** Mask selecting a slot; the capacity is a power of two. */
+    private final int mask;
+    /** Next position to write. */
+    private final AtomicLong tail = new AtomicLong();
+    /** Next position to read. */
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * Creates a ring holding at least the given number of elements.
+     *
+     * @param minCapacity minimum capacity, rounded up to a power of two
+     */
+    public RingBuffer(int minCapacity) {
+        int capacity = minCapacity <= 1 ? 1 : Integer.highestOneBit(minCapacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Adds an element if the ring is not full.
+     *
+     * @param element non-null element
+     * @return true if added, false if the ring is full
+     */
+    public boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.getAcquire(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.setPlain(index, element);
+                    sequences.setRelease(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Removes an element if the ring is not empty.
+     *
+     * @return oldest element, or null if the ring is empty
+     */
+    public E poll() {
+        long position = head.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.getAcquire(index) - (position + 1);
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    E element = slots.getPlain(index);
+                    slots.setPlain(index, null);
+                    sequences.setRelease(index, position + mask + 1);
+                    return element;
+                }
+                position = head.get();
+            } else if (difference < 0) {
+                return null;
+            } else {
+                position = head.get();
+            }
+        }
+    }
+
+    /**
+     * Gets the approximate number of elements.
+     *
+     * @return element count
+     */
+    public int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, mask + 1L));
+    }
+
+    /**
+     * Gets the capacity of the ring.
+     *
+     * @return capacity
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+}
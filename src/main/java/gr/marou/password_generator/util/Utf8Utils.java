@@ -0,0 +1,114 @@
+package gr.marou.password_generator.util;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Utility class encoding characters as UTF-8 straight into byte buffers, without intermediate
+ * strings or byte arrays. A surrogate pair is encoded as one code point; an unpaired surrogate
+ * becomes {@code ?}.
+ */
+public class Utf8Utils {
+
+    /** Private constructor to prevent instantiation. */
+    private Utf8Utils() {}
+
+    /**
+     * Computes the encoded size of a character range.
+     *
+     * @param chars  characters
+     * @param offset first character
+     * @param length number of characters
+     * @return number of UTF-8 bytes
+     */
+    public static int encodedLength(char[] chars, int offset, int length) {
+        int bytes = 0;
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            char c = chars[i];
+            if (c < 0x80) {
+                bytes++;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (!Character.isSurrogate(c)) {
+                bytes += 3;
+            } else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(chars[i + 1])) {
+                bytes += 4;
+                i++;
+            } else {
+                bytes++;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Encodes a character range at the buffer position, which must have room for
+     * {@link #encodedLength(char[], int, int)} bytes.
+     *
+     * @param chars       characters
+     * @param offset      first character
+     * @param length      number of characters
+     * @param destination destination buffer, heap or direct
+     */
+    public static void encode(char[] chars, int offset, int length, ByteBuffer destination) {
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            char c = chars[i];
+            if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(chars[i + 1])) {
+                putCodePoint(destination, Character.toCodePoint(c, chars[++i]));
+            } else {
+                putChar(destination, c);
+            }
+        }
+    }
+
+    /**
+     * Encodes the character at an index of a sequence. A surrogate pair is encoded at its high
+     * surrogate and skipped at its low surrogate, so calling this for every index encodes the
+     * whole sequence.
+     *
+     * @param destination destination buffer
+     * @param text        character sequence
+     * @param index       character index
+     */
+    public static void encode(CharSequence text, int index, ByteBuffer destination) {
+        char c = text.charAt(index);
+        if (!Character.isSurrogate(c)) {
+            putChar(destination, c);
+        } else if (Character.isHighSurrogate(c) && index + 1 < text.length()
+                && Character.isLowSurrogate(text.charAt(index + 1))) {
+            putCodePoint(destination, Character.toCodePoint(c, text.charAt(index + 1)));
+        } else if (!Character.isLowSurrogate(c) || index == 0 || !Character.isHighSurrogate(text.charAt(index - 1))) {
+            destination.put((byte) '?');
+        }
+    }
+
+    /**
+     * Encodes a character outside a surrogate pair.
+     *
+     * @param destination destination buffer
+     * @param c           character
+     */
+    private static void putChar(ByteBuffer destination, char c) {
+        if (c < 0x80) {
+            destination.put((byte) c);
+        } else if (c < 0x800) {
+            destination.put((byte) (0xC0 | c >> 6)).put((byte) (0x80 | c & 0x3F));
+        } else if (!Character.isSurrogate(c)) {
+            destination.put((byte) (0xE0 | c >> 12)).put((byte) (0x80 | c >> 6 & 0x3F)).put((byte) (0x80 | c & 0x3F));
+        } else {
+            destination.put((byte) '?');
+        }
+    }
+
+    /**
+     * Encodes a supplementary code point.
+     *
+     * @param destination destination buffer
+     * @param codePoint   code point above U+FFFF
+     */
+    private static void putCodePoint(ByteBuffer destination, int codePoint) {
+        destination.put((byte) (0xF0 | codePoint >> 18)).put((byte) (0x80 | codePoint >> 12 & 0x3F))
+                .put((byte) (0x80 | codePoint >> 6 & 0x3F)).put((byte) (0x80 | codePoint & 0x3F));
+    }
+}